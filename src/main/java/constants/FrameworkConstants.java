@@ -19,10 +19,34 @@ public final class FrameworkConstants {
 
     /** Where the Extent test report will be saved */
     private static final String EXTENT_REPORT_PATH = RESOURCE_PATH + "/report.html";
+
+    /** Append-only JSON-lines log of report events, from which report.html can be rebuilt */
+    private static final String REPORT_JOURNAL_PATH = RESOURCE_PATH + "/report-events.jsonl";
     
  // Folder for screenshots inside the project directory
     private static final String SCREENSHOT_PATH = RESOURCE_PATH + "/screenshots/";
 
+    /** Build output folder for generated, disposable files (caches, profiles) */
+    private static final String TARGET_PATH = System.getProperty("user.dir") + "/target";
+
+    /** Folder holding compiled binary snapshots of Excel sheets */
+    private static final String EXCEL_CACHE_PATH = TARGET_PATH + "/excel-cache/";
+
+    /** Learned explicit-wait latencies per locator, reused across runs */
+    private static final String WAIT_PROFILE_PATH = TARGET_PATH + "/wait-profile.properties";
+
+    /** Suite step latency summary (.csv and .json are appended) */
+    private static final String STEP_METRICS_PATH = TARGET_PATH + "/step-metrics";
+
+    /** WebDriver command counts per flow of this run */
+    private static final String COMMAND_COUNTS_PATH = TARGET_PATH + "/command-counts.properties";
+
+    /** Accepted WebDriver command counts per flow; a run fails flows that go above them */
+    private static final String COMMAND_BASELINE_PATH = RESOURCE_PATH + "/config/command-baseline.properties";
+
+    /** Folder for the last steps' evidence of failed tests */
+    private static final String EVIDENCE_PATH = RESOURCE_PATH + "/evidence/";
+
     /** Default wait time (in seconds) for WebDriver explicit waits */
     private static final int EXPLICIT_WAIT = 20;
 
@@ -46,8 +70,43 @@ public final class FrameworkConstants {
         return EXTENT_REPORT_PATH;
     }
     
+    // Returns path to the report event journal
+    public static String getReportJournalPath() {
+        return REPORT_JOURNAL_PATH;
+    }
+    
     // Returns path to screenshot file
     public static String getScreenshotPath() {
         return SCREENSHOT_PATH;
     }
+
+    // Returns folder for failure evidence
+    public static String getEvidencePath() {
+        return EVIDENCE_PATH;
+    }
+
+    // Returns folder for compiled Excel sheet snapshots
+    public static String getExcelCachePath() {
+        return EXCEL_CACHE_PATH;
+    }
+
+    // Returns path (without extension) of the step latency summary
+    public static String getStepMetricsPath() {
+        return STEP_METRICS_PATH;
+    }
+
+    // Returns path to this run's command counts
+    public static String getCommandCountsPath() {
+        return COMMAND_COUNTS_PATH;
+    }
+
+    // Returns path to the command count baseline
+    public static String getCommandBaselinePath() {
+        return COMMAND_BASELINE_PATH;
+    }
+
+    // Returns path to the adaptive wait profile
+    public static String getWaitProfilePath() {
+        return WAIT_PROFILE_PATH;
+    }
 }
@@ -1,5 +1,7 @@
 package dataProviders;
 
+import java.util.Iterator;
+
 import org.testng.annotations.DataProvider;
 import utils.ExcelUtils;
 
@@ -9,15 +11,19 @@ import utils.ExcelUtils;
 public class ExcelDataProvider {
 
     /**
-     * DataProvider that returns merged data from two Excel sheets.
+     * DataProvider that hands out the booking data sheet row by row.
+     * Declared sequential; {@code listeners.ParallelExecutionListener} switches it to parallel
+     * when {@code parallel_execution=true}.
+     *
+     * <p>Rows come from the shared compiled copy of the sheet (parsed once per workbook version),
+     * or are streamed lazily from the workbook when the Excel cache is disabled.
      *
-     * @return Object[] where each element is a single test data set (merged from both sheets)
+     * @return Iterator where each element is a single test data set (one Map<String, String> per row)
      * @throws Exception if Excel reading fails
      */
     @DataProvider(name = "BusBooking", parallel = false)
-    public Object[] getFullFlowData() throws Exception {
-        // Reads 'BusData' and 'BookingData' sheets and merges each row into one data set
-        // Example: Row 1 from BusData + Row 1 from BookingData = single Map<String, String>
-        return ExcelUtils.getData("BusBookingData");
+    public Iterator<Object[]> getFullFlowData() throws Exception {
+        // Each row of 'BusBookingData' becomes a single Map<String, String> (header -> cell text)
+        return ExcelUtils.iterateData("BusBookingData");
     }
 }
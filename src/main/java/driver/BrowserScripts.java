@@ -0,0 +1,46 @@
+package driver;
+
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Installs helper scripts into the page under test.
+ *
+ * <p>On Chromium browsers a script is registered once per session with
+ * {@code Page.addScriptToEvaluateOnNewDocument}, so it runs in every page the test visits,
+ * before the page's own scripts. Other browsers only get it injected into the current page.
+ */
+final class BrowserScripts {
+
+    // Prevent object creation
+    private BrowserScripts() {}
+
+    /**
+     * Runs {@code source} in every document this browser loads from now on
+     * (and in the current one).
+     *
+     * @return true if the script will follow navigations, false if only the current page has it
+     */
+    static boolean installOnEveryPage(WebDriver driver, String source) {
+        boolean persistent = false;
+        if (driver instanceof HasCdp) {
+            ((HasCdp) driver).executeCdpCommand("Page.enable", Map.of());
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", source));
+            persistent = true;
+        }
+        injectNow(driver, source);
+        return persistent;
+    }
+
+    /** Runs the script in the current document only (scripts must guard against double install) */
+    static void injectNow(WebDriver driver, String source) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(source);
+        } catch (RuntimeException e) {
+            // about:blank or a page mid-navigation - the on-new-document hook covers the next page
+        }
+    }
+}
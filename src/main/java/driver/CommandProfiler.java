@@ -0,0 +1,205 @@
+package driver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import constants.FrameworkConstants;
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Counts and times every WebDriver command (driver, element, navigation, timeouts, ... calls) per test
+ * and per page object method, via Selenium's {@link EventFiringDecorator}.
+ * Enabled with {@code command_profiler_enabled=true}; {@link DriverManager} then hands out decorated drivers.
+ *
+ * <p>Each test's command count is stored per flow (test method plus the data row's Scenario, see
+ * {@code listeners.TestListener}) in target/command-counts.properties.
+ * Copy that file to config/command-baseline.properties to make it the baseline: a test whose count goes
+ * above its baseline (plus {@code command_baseline_tolerance_percent}) then fails, so a framework change
+ * that adds round-trips shows up as a regression.
+ */
+public final class CommandProfiler implements WebDriverListener {
+
+    private static final CommandProfiler LISTENER = new CommandProfiler();
+    private static final int TOP_METHODS = 10;
+
+    // Calls that only return a local helper object (no request to the driver)
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+            "logs", "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals");
+
+    // command name or page method -> {count, nanos}, per test thread
+    private static final ThreadLocal<Map<String, long[]>> BY_COMMAND = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, long[]>> BY_PAGE_METHOD = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Deque<Long>> STARTED = ThreadLocal.withInitial(ArrayDeque::new);
+
+    // flow (test method + scenario) -> commands, for the counts file
+    private static final Map<String, Long> FLOW_COUNTS = new ConcurrentHashMap<>();
+    private static final Properties BASELINE = loadBaseline();
+
+    // Only the shared LISTENER instance
+    private CommandProfiler() {}
+
+    /** True if {@code command_profiler_enabled}: drivers are decorated and commands counted */
+    public static boolean isEnabled() {
+        return PropertyUtils.getBoolean(ConfigProperties.COMMAND_PROFILER_ENABLED, false);
+    }
+
+    /** Wraps the driver so every command passes through the profiler */
+    static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(WebDriver.class, LISTENER).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            STARTED.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (LOCAL_CALLS.contains(method.getName()) || STARTED.get().isEmpty()) {
+            return;
+        }
+        long nanos = System.nanoTime() - STARTED.get().pop();
+        add(BY_COMMAND.get(), method.getDeclaringClass().getSimpleName() + "." + method.getName(), nanos);
+        add(BY_PAGE_METHOD.get(), currentPageMethod(), nanos);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        afterAnyCall(target, method, args, null); // failed commands still cost a round-trip
+    }
+
+    /** Clears the current thread's counts (call when a test starts) */
+    public static void reset() {
+        BY_COMMAND.remove();
+        BY_PAGE_METHOD.remove();
+        STARTED.remove();
+    }
+
+    /** Commands sent by the current test so far */
+    public static long getCommandCount() {
+        return BY_COMMAND.get().values().stream().mapToLong(stats -> stats[0]).sum();
+    }
+
+    /**
+     * Compares the current test's command count with the baseline for the flow.
+     * @return failure message if the count went up beyond the tolerance; null otherwise, when profiling
+     *         is off or the flow has no baseline
+     */
+    public static String checkBaseline(String flow) {
+        String baseline = BASELINE.getProperty(flow);
+        if (!isEnabled() || baseline == null || !baseline.trim().matches("\\d+")) {
+            return null;
+        }
+        long expected = Long.parseLong(baseline.trim());
+        long actual = getCommandCount();
+        double tolerance = PropertyUtils.getInt(ConfigProperties.COMMAND_BASELINE_TOLERANCE_PERCENT, 0) / 100.0;
+        if (actual <= expected * (1 + tolerance)) {
+            return null;
+        }
+        return String.format("WebDriver commands for '%s' went up: %d (baseline %d, +%d)",
+                flow, actual, expected, actual - expected);
+    }
+
+    /**
+     * Returns e.g. "WebDriver commands: 212 (9840 ms); by command: WebElement.click 14 (1200 ms), ...;
+     * by page method: BusResultsPage.selectSeats 40 (2100 ms), ..." for the current test, stores the
+     * count for the flow and clears it. Returns null if nothing was recorded.
+     */
+    public static String summarizeAndReset(String flow) {
+        Map<String, long[]> byCommand = BY_COMMAND.get();
+        Map<String, long[]> byPageMethod = BY_PAGE_METHOD.get();
+        reset();
+        if (byCommand.isEmpty()) {
+            return null;
+        }
+        long count = byCommand.values().stream().mapToLong(stats -> stats[0]).sum();
+        long nanos = byCommand.values().stream().mapToLong(stats -> stats[1]).sum();
+        FLOW_COUNTS.merge(flow, count, Math::max);
+        return String.format("WebDriver commands: %d (%d ms); by command: %s; by page method: %s",
+                count, nanos / 1_000_000, top(byCommand), top(byPageMethod));
+    }
+
+    /**
+     * Writes each flow's command count of this run to target/command-counts.properties
+     * (same format as the baseline).
+     * @return path of the file, or null if nothing was profiled
+     */
+    public static String writeFlowCounts() {
+        if (FLOW_COUNTS.isEmpty()) {
+            return null;
+        }
+        Properties counts = new Properties();
+        FLOW_COUNTS.forEach((flow, count) -> counts.setProperty(flow, String.valueOf(count)));
+        Path path = Paths.get(FrameworkConstants.getCommandCountsPath()).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            try (OutputStream out = Files.newOutputStream(path)) {
+                counts.store(out, "WebDriver commands per flow, keyed '<test method> - <Scenario column>'"
+                        + " (or '<test method> #<data row>' for a row without a Scenario)"
+                        + " - copy to config/command-baseline.properties to make this the baseline");
+            }
+            return path.toString();
+        } catch (IOException e) {
+            System.err.println("❌ Failed to write command counts: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void add(Map<String, long[]> stats, String key, long nanos) {
+        long[] entry = stats.computeIfAbsent(key, k -> new long[2]);
+        entry[0]++;
+        entry[1] += nanos;
+    }
+
+    /** "key count (ms), ..." for the keys with the most commands */
+    private static String top(Map<String, long[]> stats) {
+        return stats.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+                .limit(TOP_METHODS)
+                .map(e -> String.format("%s %d (%d ms)", e.getKey(), e.getValue()[0], e.getValue()[1] / 1_000_000))
+                .collect(Collectors.joining(", "));
+    }
+
+    /** "Page.method" of the nearest page object frame on the stack (BasePage helpers are skipped), or "Other" */
+    private static String currentPageMethod() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("pages.") && !f.getClassName().equals("pages.BasePage"))
+                .map(f -> f.getClassName().substring("pages.".length()) + "." + f.getMethodName())
+                .findFirst())
+                .orElse("Other");
+    }
+
+    private static Properties loadBaseline() {
+        Properties baseline = new Properties();
+        Path path = Paths.get(FrameworkConstants.getCommandBaselinePath());
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                baseline.load(in);
+            } catch (IOException e) {
+                System.err.println("❌ Failed to read command baseline " + path + ": " + e.getMessage());
+            }
+        }
+        return baseline;
+    }
+}
@@ -1,47 +1,62 @@
 package driver;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 
+import constants.FrameworkConstants;
 import enums.BrowserType;
+import enums.ConfigProperties;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import utils.ExecutionCapacity;
+import utils.PropertyUtils;
 
 /**
  * Manages WebDriver lifecycle using ThreadLocal (safe for parallel tests).
+ *
+ * <p>When {@code driver_pool_enabled=true} browsers come from a warm {@link DriverPool}:
+ * {@link #initDriver(BrowserType)} checks one out and {@link #quitDriver()} hands it back
+ * instead of closing it.
+ *
+ * <p>When {@code command_profiler_enabled=true} {@link #getDriver()} returns the browser wrapped by
+ * the {@link CommandProfiler}; the pool and the CDP helpers keep working with the plain driver.
  */
 public final class DriverManager {
 
     // Holds one WebDriver instance per thread (parallel-safe)
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
 
+    // The same driver wrapped by the CommandProfiler (only when profiling is on)
+    private static final ThreadLocal<WebDriver> profiledDriver = new ThreadLocal<>();
+
+    // Shared pool of warm browsers, created on first use when pooling is enabled
+    private static volatile DriverPool pool;
+
+    // Headless browsers get a fixed desktop-sized viewport, since there is no window to maximize
+    private static final String[] HEADLESS_ARGS = {"--headless=new", "--window-size=1920,1080"};
+
     // Prevent object creation
     private DriverManager() {}
 
     /**
-     * Starts WebDriver for the given browser type.
+     * Starts WebDriver for the given browser type
+     * (or takes a warm one from the pool when pooling is enabled).
      */
     public static void initDriver(BrowserType browser) {
         if (driver.get() == null) { // Only create if not already started
-            switch (browser) {
-                case CHROME:
-                    WebDriverManager.chromedriver().setup(); // Auto-setup ChromeDriver
-                    driver.set(new ChromeDriver(new ChromeOptions())); // Launch Chrome
-                    break;
-
-                case EDGE:
-                    WebDriverManager.edgedriver().setup(); // Auto-setup EdgeDriver
-                    driver.set(new EdgeDriver(new EdgeOptions())); // Launch Edge
-                    break;
-
-                default:
-                    throw new IllegalStateException("❌ Unsupported browser: " + browser);
+            if (isPoolEnabled()) {
+                driver.set(getPool().checkout(browser));
+            } else {
+                driver.set(createDriver(browser));
+            }
+            if (CommandProfiler.isEnabled()) {
+                profiledDriver.set(CommandProfiler.decorate(driver.get()));
             }
-
-            getDriver().manage().window().maximize(); // Fullscreen for consistency
-            getDriver().manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(10)); // Basic implicit wait
         }
     }
 
@@ -52,16 +67,187 @@ public final class DriverManager {
         if (driver.get() == null) {
             throw new IllegalStateException("❌ WebDriver not initialized. Call initDriver() first.");
         }
-        return driver.get();
+        WebDriver profiled = profiledDriver.get();
+        return profiled != null ? profiled : driver.get();
     }
 
     /**
-     * Closes browser and clears ThreadLocal instance.
+     * Closes browser (or returns it to the pool) and clears ThreadLocal instance.
      */
     public static void quitDriver() {
         if (driver.get() != null) {
-            driver.get().quit();   // Close browser
-            driver.remove();       // Remove driver from ThreadLocal
+            try {
+                if (isPoolEnabled()) {
+                    getPool().release(driver.get()); // Reset and park for the next test
+                } else {
+                    NetworkBlocker.uninstall(driver.get());
+                    driver.get().quit();   // Close browser
+                }
+            } finally {
+                driver.remove();       // Remove driver from ThreadLocal
+                profiledDriver.remove();
+            }
+        }
+    }
+
+    /**
+     * Pre-starts browsers so the first tests of the suite hit a warm pool.
+     * Does nothing when pooling is disabled.
+     */
+    public static void warmUpPool(BrowserType browser) {
+        if (isPoolEnabled()) {
+            int size = getPoolSize();
+            getPool().warmUp(browser, Math.max(PropertyUtils.getInt(ConfigProperties.DRIVER_POOL_WARMUP, size),
+                    ExecutionCapacity.getWorkerCount()));
+        }
+    }
+
+    /**
+     * Quits all pooled browsers. Call once at the end of the suite.
+     *
+     * @return pool statistics (hits, misses, checkout latency), or null if pooling was not used
+     */
+    public static String shutdownPool() {
+        DriverPool current = pool;
+        if (current == null) {
+            return null;
+        }
+        current.shutdown();
+        return current.getStats();
+    }
+
+    /** Current pool statistics, or null if pooling was not used in this run */
+    public static String getPoolStats() {
+        DriverPool current = pool;
+        return current == null ? null : current.getStats();
+    }
+
+    /**
+     * Returns the current browser's blocked-request counts and estimated bytes saved since the
+     * previous call (i.e. for the current test), or null if network blocking is off.
+     */
+    public static String getNetworkStats() {
+        WebDriver current = driver.get();
+        return current == null ? null : NetworkBlocker.snapshotAndReset(current);
+    }
+
+    /**
+     * Returns how many popups the overlay guard dismissed during the current test (and resets
+     * the counters), or null if the guard is off or had nothing to do.
+     */
+    public static String getOverlayStats() {
+        WebDriver current = driver.get();
+        return current == null ? null : OverlayGuard.collectAndReset(current);
+    }
+
+    /** True if tests should reuse warm browsers from the pool */
+    public static boolean isPoolEnabled() {
+        return PropertyUtils.getBoolean(ConfigProperties.DRIVER_POOL_ENABLED, false);
+    }
+
+    /**
+     * Launches a brand-new browser session with the framework defaults applied.
+     * Used directly when pooling is off, and by the pool to fill itself.
+     */
+    static WebDriver createDriver(BrowserType browser) {
+        WebDriver newDriver;
+        switch (browser) {
+            case CHROME:
+                WebDriverManager.chromedriver().setup(); // Auto-setup ChromeDriver
+                newDriver = new ChromeDriver(new ChromeOptions()); // Launch Chrome
+                break;
+
+            case CHROME_HEADLESS:
+                WebDriverManager.chromedriver().setup();
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.addArguments(HEADLESS_ARGS);
+                newDriver = new ChromeDriver(chromeOptions); // Launch Chrome without a window
+                break;
+
+            case EDGE:
+                WebDriverManager.edgedriver().setup(); // Auto-setup EdgeDriver
+                newDriver = new EdgeDriver(new EdgeOptions()); // Launch Edge
+                break;
+
+            case EDGE_HEADLESS:
+                WebDriverManager.edgedriver().setup();
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.addArguments(HEADLESS_ARGS);
+                newDriver = new EdgeDriver(edgeOptions); // Launch Edge without a window
+                break;
+
+            default:
+                throw new IllegalStateException("❌ Unsupported browser: " + browser);
+        }
+
+        if (!browser.isHeadless()) {
+            newDriver.manage().window().maximize(); // Fullscreen for consistency (headless uses --window-size)
+        }
+        applyDefaultTimeouts(newDriver);
+        NetworkBlocker.installIfEnabled(newDriver); // Skip images/fonts/analytics if configured
+        OverlayGuard.installIfEnabled(newDriver);   // Auto-dismiss known popups on every page
+        PageActivityMonitor.install(newDriver);     // In-flight request / DOM change tracking for READY waits
+        return newDriver;
+    }
+
+    /** Applies the framework's default timeouts (also re-applied when a pooled browser is reset) */
+    static void applyDefaultTimeouts(WebDriver webDriver) {
+        webDriver.manage().timeouts().implicitlyWait(getImplicitWait()); // 0 = explicit waits only
+        webDriver.manage().timeouts().scriptTimeout(getScriptTimeout());
+    }
+
+    /**
+     * Async script timeout every browser gets: the explicit wait plus headroom, since async scripts
+     * (e.g. DOM-mutation waits) wait up to the explicit wait themselves.
+     */
+    public static Duration getScriptTimeout() {
+        return Duration.ofSeconds(FrameworkConstants.getExplicitWait() + 10L);
+    }
+
+    /**
+     * Configured implicit wait ({@code implicit_wait_seconds}, default 10).
+     * 0 is recommended: lookups then never block and only explicit waits spend time.
+     */
+    public static Duration getImplicitWait() {
+        return Duration.ofSeconds(PropertyUtils.getInt(ConfigProperties.IMPLICIT_WAIT_SECONDS, 10));
+    }
+
+    /**
+     * Runs the action with the implicit wait switched off, so element lookups inside it return
+     * immediately (probes) and explicit waits don't stack on top of the implicit one.
+     * Costs nothing when the implicit wait is already 0.
+     */
+    public static <T> T withoutImplicitWait(Supplier<T> action) {
+        Duration implicit = getImplicitWait();
+        if (implicit.isZero()) {
+            return action.get();
+        }
+        WebDriver current = getDriver();
+        current.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return action.get();
+        } finally {
+            current.manage().timeouts().implicitlyWait(implicit);
+        }
+    }
+
+    /** Configured pool size, raised to the parallel worker count so every worker can keep a warm browser */
+    private static int getPoolSize() {
+        return Math.max(PropertyUtils.getInt(ConfigProperties.DRIVER_POOL_SIZE, 1), ExecutionCapacity.getWorkerCount());
+    }
+
+    /** Lazily creates the pool (and a shutdown hook so pooled browsers never outlive the JVM) */
+    private static DriverPool getPool() {
+        if (pool == null) {
+            synchronized (DriverManager.class) {
+                if (pool == null) {
+                    pool = new DriverPool(
+                            getPoolSize(),
+                            PropertyUtils.getInt(ConfigProperties.DRIVER_POOL_MAX_USES, 50));
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> pool.shutdown(), "driver-pool-shutdown"));
+                }
+            }
         }
+        return pool;
     }
 }
@@ -0,0 +1,298 @@
+package driver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import enums.BrowserType;
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Bounded pool of warm WebDriver sessions used by {@link DriverManager}.
+ *
+ * <p>Tests check a browser out instead of launching one and hand it back instead of quitting it.
+ * On return the session is reset (extra windows, cookies, storage) so the next test starts clean.
+ * Sessions that fail the health check or the reset are evicted and quit.
+ */
+final class DriverPool {
+
+    /** Page every returned browser is parked on, so nothing keeps running between tests */
+    private static final String BLANK_PAGE = "about:blank";
+
+    /** Wipes web storage for the current origin (ignored on pages without storage access); non-DevTools fallback */
+    private static final String CLEAR_STORAGE_JS =
+            "try { window.localStorage.clear(); } catch (e) {}" +
+            "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final int maxIdle;
+    private final int maxUses;
+
+    // Idle browsers per browser type, most recently returned first (warmest cache)
+    private final Map<BrowserType, LinkedBlockingDeque<PooledDriver>> idle = new ConcurrentHashMap<>();
+
+    // Browsers currently checked out, keyed by identity of the WebDriver handed to the test
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+
+    // ===== Statistics =====
+    private final AtomicLong warmed = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final Map<String, AtomicLong> evictionReasons = new ConcurrentHashMap<>();
+    private final AtomicLong checkouts = new AtomicLong();
+    private final AtomicLong totalCheckoutNanos = new AtomicLong();
+    private final AtomicLong maxCheckoutNanos = new AtomicLong();
+
+    DriverPool(int maxIdle, int maxUses) {
+        this.maxIdle = Math.max(1, maxIdle);
+        this.maxUses = Math.max(1, maxUses);
+    }
+
+    /**
+     * Starts up to {@code count} browsers in parallel and parks them in the pool,
+     * so the first tests don't each pay a cold browser launch.
+     */
+    void warmUp(BrowserType browser, int count) {
+        int toStart = Math.min(count, maxIdle) - idleQueue(browser).size();
+        if (toStart <= 0) {
+            return;
+        }
+
+        ExecutorService starter = Executors.newFixedThreadPool(toStart);
+        try {
+            List<Future<WebDriver>> started = new ArrayList<>();
+            for (int i = 0; i < toStart; i++) {
+                started.add(starter.submit(() -> DriverManager.createDriver(browser)));
+            }
+            for (Future<WebDriver> future : started) {
+                try {
+                    idleQueue(browser).offerFirst(new PooledDriver(browser, future.get()));
+                    warmed.incrementAndGet();
+                } catch (Exception e) {
+                    // A failed warm-up only costs a pool miss later, so don't abort the suite
+                    System.err.println("❌ Failed to pre-warm " + browser + " browser: " + e.getMessage());
+                }
+            }
+        } finally {
+            starter.shutdown();
+        }
+    }
+
+    /**
+     * Hands out a healthy idle browser, or launches a new one if none is available.
+     */
+    WebDriver checkout(BrowserType browser) {
+        long start = System.nanoTime();
+        PooledDriver pooled = null;
+
+        // Skip over idle sessions that died while parked (crashed browser, killed driver, etc.)
+        PooledDriver candidate;
+        while ((candidate = idleQueue(browser).pollFirst()) != null) {
+            if (isHealthy(candidate.driver)) {
+                pooled = candidate;
+                hits.incrementAndGet();
+                break;
+            }
+            evict(candidate, "failed health check");
+        }
+
+        if (pooled == null) {
+            misses.incrementAndGet();
+            pooled = new PooledDriver(browser, DriverManager.createDriver(browser));
+        }
+
+        pooled.uses++;
+        leased.put(pooled.driver, pooled);
+        recordCheckout(System.nanoTime() - start);
+        return pooled.driver;
+    }
+
+    /**
+     * Takes a browser back from a test. It is reset and parked for reuse,
+     * or quit if it is worn out, broken, or the pool is already full.
+     */
+    void release(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            // Not one of ours (e.g. created before pooling was switched on) - just close it
+            quitQuietly(driver);
+            return;
+        }
+
+        if (pooled.uses >= maxUses) {
+            evict(pooled, "reached " + maxUses + " uses");
+            return;
+        }
+
+        try {
+            reset(pooled.driver);
+        } catch (Exception e) {
+            System.err.println("❌ Could not reset pooled " + pooled.browser + " browser: " + e.getMessage());
+            evict(pooled, "reset failed");
+            return;
+        }
+
+        LinkedBlockingDeque<PooledDriver> queue = idleQueue(pooled.browser);
+        if (queue.size() >= maxIdle || !queue.offerFirst(pooled)) {
+            evict(pooled, "pool full");
+        }
+    }
+
+    /** Quits every idle browser; leased ones are quit when returned */
+    void shutdown() {
+        for (LinkedBlockingDeque<PooledDriver> queue : idle.values()) {
+            PooledDriver pooled;
+            while ((pooled = queue.pollFirst()) != null) {
+                quitQuietly(pooled.driver);
+            }
+        }
+    }
+
+    /**
+     * One-line summary of pool effectiveness for the console / report, e.g.
+     * "Driver pool: warmed=2, hits=14, misses=2, evictions=3 (pool full 1, reached 20 uses 2), ..."
+     */
+    String getStats() {
+        long count = checkouts.get();
+        double avgMs = count == 0 ? 0 : totalCheckoutNanos.get() / 1_000_000.0 / count;
+        StringBuilder reasons = new StringBuilder();
+        new TreeMap<>(evictionReasons).forEach((reason, evicted) ->
+                reasons.append(reasons.length() == 0 ? " (" : ", ").append(reason).append(' ').append(evicted));
+        if (reasons.length() > 0) {
+            reasons.append(')');
+        }
+        return String.format("Driver pool: warmed=%d, hits=%d, misses=%d, evictions=%d%s, checkouts=%d,"
+                        + " avg checkout=%.1f ms, max checkout=%.1f ms",
+                warmed.get(), hits.get(), misses.get(), evictions.get(), reasons, count, avgMs,
+                maxCheckoutNanos.get() / 1_000_000.0);
+    }
+
+    // ===== Internal helpers =====
+
+    private LinkedBlockingDeque<PooledDriver> idleQueue(BrowserType browser) {
+        return idle.computeIfAbsent(browser, b -> new LinkedBlockingDeque<>());
+    }
+
+    private void recordCheckout(long nanos) {
+        checkouts.incrementAndGet();
+        totalCheckoutNanos.addAndGet(nanos);
+        maxCheckoutNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /** A session is healthy if the browser still answers a cheap command */
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Brings a used browser back to a clean state:
+     * one window, no cookies, no site data (storage, IndexedDB, Cache Storage) for the origins it used,
+     * parked on a blank page.
+     * The HTTP cache is deliberately kept - a warm cache is part of what the pool buys us.
+     */
+    private static void reset(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(keep);
+
+        if (driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            // Every kind of storage (local/session, IndexedDB, Cache Storage, service workers, ...) of every
+            // origin the test touched, then cookies for every domain, not just the one currently loaded
+            for (String origin : visitedOrigins(driver, cdp)) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            }
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_JS);
+        }
+        driver.get(BLANK_PAGE);
+        DriverManager.applyDefaultTimeouts(driver);
+    }
+
+    /**
+     * Origins the session has used: the application under test, the page currently loaded and every
+     * cookie domain (as https://domain and, for domain cookies, https://www.domain).
+     */
+    private static Set<String> visitedOrigins(WebDriver driver, HasCdp cdp) {
+        Set<String> origins = new LinkedHashSet<>();
+        addOrigin(origins, PropertyUtils.get(ConfigProperties.URL, ""));
+        addOrigin(origins, driver.getCurrentUrl());
+        Object cookies = cdp.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+        if (cookies instanceof List) {
+            for (Object cookie : (List<?>) cookies) {
+                String domain = String.valueOf(((Map<?, ?>) cookie).get("domain"));
+                if (domain.startsWith(".")) {
+                    domain = domain.substring(1);
+                    origins.add("https://www." + domain);
+                }
+                origins.add("https://" + domain);
+            }
+        }
+        return origins;
+    }
+
+    /** Adds scheme://host[:port] of an http(s) URL; anything else (about:blank, data:) is ignored */
+    private static void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = URI.create(url);
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // Not a URL - nothing stored under it
+        }
+    }
+
+    private void evict(PooledDriver pooled, String reason) {
+        evictions.incrementAndGet();
+        evictionReasons.computeIfAbsent(reason, r -> new AtomicLong()).incrementAndGet();
+        quitQuietly(pooled.driver);
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        NetworkBlocker.uninstall(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            // Session is already gone - nothing left to clean up
+        }
+    }
+
+    /** A pooled browser and how many tests it has served */
+    private static final class PooledDriver {
+        private final BrowserType browser;
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(BrowserType browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+        }
+    }
+}
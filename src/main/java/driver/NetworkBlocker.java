@@ -0,0 +1,198 @@
+package driver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Blocks non-essential network requests (images, fonts, ads, analytics) through Chrome DevTools.
+ *
+ * <ul>
+ *   <li>URL patterns ({@code blocked_url_patterns}) use {@code Network.setBlockedURLs}.</li>
+ *   <li>Resource types ({@code blocked_resource_types}, e.g. Image, Font, Media) are failed
+ *       through the {@code Fetch} domain before the request leaves the browser.</li>
+ * </ul>
+ *
+ * Raw CDP method names are used (not the versioned devtools classes) so a Chrome upgrade
+ * doesn't break the blocker. Counters are kept per driver and read/reset once per test.
+ */
+public final class NetworkBlocker {
+
+    /**
+     * Typical transfer size per resource type (bytes), used to estimate savings for types
+     * that are blocked outright and therefore never observed in this session.
+     */
+    private static final Map<String, Long> TYPICAL_SIZES = Map.of(
+            "Image", 15_000L,
+            "Font", 30_000L,
+            "Media", 250_000L,
+            "Script", 25_000L,
+            "Stylesheet", 15_000L,
+            "XHR", 5_000L,
+            "Fetch", 5_000L);
+
+    // One blocker per live browser session
+    private static final Map<WebDriver, NetworkBlocker> BLOCKERS = new ConcurrentHashMap<>();
+
+    private final List<String> blockedTypes;
+
+    // requestId -> resource type, so finished responses can be attributed to a type
+    private final Map<String, String> requestTypes = new ConcurrentHashMap<>();
+
+    // Running totals used to learn the average size of each resource type
+    private final Map<String, long[]> loadedBytesByType = new ConcurrentHashMap<>();
+
+    // Per-test counters, reset by snapshotAndReset()
+    private final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+    private final AtomicLong transferredBytes = new AtomicLong();
+
+    private NetworkBlocker(List<String> blockedTypes) {
+        this.blockedTypes = blockedTypes;
+    }
+
+    /**
+     * Installs blocking on a freshly created browser if enabled in config.
+     * Browsers without DevTools support are left untouched.
+     */
+    static void installIfEnabled(WebDriver driver) {
+        if (!PropertyUtils.getBoolean(ConfigProperties.NETWORK_BLOCKING_ENABLED, false)
+                || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        List<String> urlPatterns = readList(ConfigProperties.BLOCKED_URL_PATTERNS);
+        List<String> resourceTypes = readList(ConfigProperties.BLOCKED_RESOURCE_TYPES);
+
+        NetworkBlocker blocker = new NetworkBlocker(resourceTypes);
+        blocker.attach(((HasDevTools) driver).getDevTools(), urlPatterns);
+        BLOCKERS.put(driver, blocker);
+        System.out.println("✅ Network blocking active: " + urlPatterns.size() + " URL pattern(s), types " + resourceTypes);
+    }
+
+    /** Forgets the blocker of a browser that has been quit */
+    static void uninstall(WebDriver driver) {
+        BLOCKERS.remove(driver);
+    }
+
+    /**
+     * Returns "blocked N requests (~X KB saved, Y KB transferred)" for the given browser
+     * since the last call, and starts counting afresh. Returns null if blocking is not active.
+     */
+    public static String snapshotAndReset(WebDriver driver) {
+        NetworkBlocker blocker = BLOCKERS.get(driver);
+        return blocker == null ? null : blocker.snapshotAndReset();
+    }
+
+    // ===== Internal =====
+
+    private void attach(DevTools devTools, List<String> urlPatterns) {
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<>("Network.enable", Map.of()));
+
+        if (!urlPatterns.isEmpty()) {
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", urlPatterns)));
+        }
+
+        if (!blockedTypes.isEmpty()) {
+            List<Map<String, Object>> patterns = blockedTypes.stream()
+                    .map(type -> Map.<String, Object>of("urlPattern", "*", "resourceType", type, "requestStage", "Request"))
+                    .collect(Collectors.toList());
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+
+            // Only requests matching the patterns are paused, so every one of them gets failed
+            devTools.addListener(event("Fetch.requestPaused"), paused -> {
+                count(String.valueOf(paused.get("resourceType")));
+                devTools.send(new Command<>("Fetch.failRequest",
+                        Map.of("requestId", paused.get("requestId"), "errorReason", "BlockedByClient")));
+            });
+        }
+
+        devTools.addListener(event("Network.responseReceived"), response ->
+                requestTypes.put(String.valueOf(response.get("requestId")), String.valueOf(response.get("type"))));
+
+        devTools.addListener(event("Network.loadingFinished"), finished -> {
+            String type = requestTypes.remove(String.valueOf(finished.get("requestId")));
+            long bytes = ((Number) finished.getOrDefault("encodedDataLength", 0)).longValue();
+            transferredBytes.addAndGet(bytes);
+            if (type != null) {
+                long[] totals = loadedBytesByType.computeIfAbsent(type, t -> new long[2]);
+                synchronized (totals) {
+                    totals[0] += bytes;
+                    totals[1]++;
+                }
+            }
+        });
+
+        // setBlockedURLs rejections surface as failed loads blocked by the "inspector"
+        // (Fetch.failRequest ones were already counted above)
+        devTools.addListener(event("Network.loadingFailed"), failed -> {
+            requestTypes.remove(String.valueOf(failed.get("requestId")));
+            if ("inspector".equals(failed.get("blockedReason"))) {
+                count(String.valueOf(failed.get("type")));
+            }
+        });
+    }
+
+    private void count(String type) {
+        blockedByType.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String snapshotAndReset() {
+        long blocked = 0;
+        long savedBytes = 0;
+        Map<String, Long> perType = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : blockedByType.entrySet()) {
+            long n = entry.getValue().getAndSet(0);
+            if (n > 0) {
+                perType.put(entry.getKey(), n);
+                blocked += n;
+                savedBytes += n * averageSize(entry.getKey());
+            }
+        }
+        long transferred = transferredBytes.getAndSet(0);
+        return String.format("Network blocking: blocked %d request(s) %s, ~%d KB saved (estimated), %d KB transferred",
+                blocked, perType, savedBytes / 1024, transferred / 1024);
+    }
+
+    /** Average observed size of a type in this session, or a typical size if it was never loaded */
+    private long averageSize(String type) {
+        long[] totals = loadedBytesByType.get(type);
+        if (totals != null) {
+            synchronized (totals) {
+                if (totals[1] > 0) {
+                    return totals[0] / totals[1];
+                }
+            }
+        }
+        return TYPICAL_SIZES.getOrDefault(type, 0L);
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static List<String> readList(ConfigProperties key) {
+        String value = PropertyUtils.get(key, "");
+        if (value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,120 @@
+package driver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Browser-side guard that closes known popups/interstitials the moment they appear.
+ *
+ * <p>A MutationObserver is injected into every page (see {@link BrowserScripts}). Whenever the DOM
+ * changes it checks the registered {@link OverlayRule}s and clicks the close button (or removes the
+ * overlay) asynchronously, so tests neither probe for popups up front nor lose clicks to them.
+ * Dismissals are counted in sessionStorage so the counts survive same-site navigations.
+ */
+public final class OverlayGuard {
+
+    private static final String COUNTS_KEY = "__overlayGuardCounts";
+
+    // Known MakeMyTrip interstitials; baked into the script each browser gets when it is created
+    private static final List<OverlayRule> RULES = List.of(
+            OverlayRule.clickToClose("Login popup", "span.commonModal__close"),
+            OverlayRule.clickToClose("Travel card popup", "span[data-cy='travel-card-close']"));
+
+    private static final String GUARD_JS =
+            "(function (rules, key) {" +
+            "  if (window.__overlayGuard) { return; }" +
+            "  var pending = false;" +
+            "  function visible(el) { return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); }" +
+            "  function bump(name) {" +
+            "    try {" +
+            "      var counts = JSON.parse(sessionStorage.getItem(key) || '{}');" +
+            "      counts[name] = (counts[name] || 0) + 1;" +
+            "      sessionStorage.setItem(key, JSON.stringify(counts));" +
+            "    } catch (e) {}" +
+            "  }" +
+            "  function sweep() {" +
+            "    pending = false;" +
+            "    rules.forEach(function (rule) {" +
+            "      var overlay = document.querySelector(rule.overlay);" +
+            "      if (!overlay || overlay.__overlayGuardHandled || !visible(overlay)) { return; }" +
+            "      try {" +
+            "        if (rule.dismiss) {" +
+            "          var button = overlay.matches(rule.dismiss) ? overlay" +
+            "              : (overlay.querySelector(rule.dismiss) || document.querySelector(rule.dismiss));" +
+            "          if (!button) { return; }" +   // close button not rendered yet - next sweep retries
+            "          overlay.__overlayGuardHandled = true;" + // never act twice on the same element
+            "          button.click();" +
+            "        } else {" +
+            "          overlay.__overlayGuardHandled = true;" +
+            "          overlay.remove();" +
+            "        }" +
+            "        bump(rule.name);" +
+            "      } catch (e) {}" +
+            "    });" +
+            "  }" +
+            "  function schedule() { if (!pending) { pending = true; setTimeout(sweep, 0); } }" +
+            "  window.__overlayGuard = new MutationObserver(schedule);" +
+            "  window.__overlayGuard.observe(document, {childList: true, subtree: true," +
+            "      attributes: true, attributeFilter: ['class', 'style']});" +
+            "  schedule();" +
+            "})(%s, '%s');";
+
+    private static final String READ_AND_CLEAR_COUNTS_JS =
+            "try {" +
+            "  var counts = sessionStorage.getItem(arguments[0]);" +
+            "  sessionStorage.removeItem(arguments[0]);" +
+            "  return counts;" +
+            "} catch (e) { return null; }";
+
+    // Prevent object creation
+    private OverlayGuard() {}
+
+    /** True if popups should be handled by the browser-side guard */
+    public static boolean isEnabled() {
+        return PropertyUtils.getBoolean(ConfigProperties.OVERLAY_GUARD_ENABLED, false);
+    }
+
+    /** Installs the guard on a freshly created browser if enabled */
+    static void installIfEnabled(WebDriver driver) {
+        if (isEnabled()) {
+            BrowserScripts.installOnEveryPage(driver, buildScript());
+        }
+    }
+
+    /**
+     * Returns e.g. "Overlay guard dismissed: {Login popup=1}" for the current test and clears the
+     * counters, or null if the guard is off or dismissed nothing.
+     */
+    public static String collectAndReset(WebDriver driver) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Object counts = ((JavascriptExecutor) driver).executeScript(READ_AND_CLEAR_COUNTS_JS, COUNTS_KEY);
+        if (counts == null || "{}".equals(counts)) {
+            return null;
+        }
+        Map<String, Object> parsed = new Json().toType(String.valueOf(counts), Json.MAP_TYPE);
+        return "Overlay guard dismissed: " + parsed;
+    }
+
+    private static String buildScript() {
+        List<Map<String, Object>> rules = new ArrayList<>();
+        for (OverlayRule rule : RULES) {
+            Map<String, Object> js = new HashMap<>();
+            js.put("name", rule.getName());
+            js.put("overlay", rule.getOverlaySelector());
+            js.put("dismiss", rule.getDismissSelector());
+            rules.add(js);
+        }
+        return String.format(GUARD_JS, new Json().toJson(rules), COUNTS_KEY);
+    }
+}
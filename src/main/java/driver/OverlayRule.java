@@ -0,0 +1,40 @@
+package driver;
+
+/**
+ * Describes one interstitial the {@link OverlayGuard} should get out of the way:
+ * how to recognise it and how to dismiss it.
+ */
+public final class OverlayRule {
+
+    private final String name;
+    private final String overlaySelector;
+    private final String dismissSelector;
+
+    /**
+     * @param name            label used in the dismissal counters
+     * @param overlaySelector CSS selector of the overlay (or of its close button)
+     * @param dismissSelector CSS selector clicked to close it; null removes the overlay element instead
+     */
+    public OverlayRule(String name, String overlaySelector, String dismissSelector) {
+        this.name = name;
+        this.overlaySelector = overlaySelector;
+        this.dismissSelector = dismissSelector;
+    }
+
+    /** Rule for overlays whose close button is itself a reliable marker: detect and click the same element */
+    public static OverlayRule clickToClose(String name, String closeButtonSelector) {
+        return new OverlayRule(name, closeButtonSelector, closeButtonSelector);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOverlaySelector() {
+        return overlaySelector;
+    }
+
+    public String getDismissSelector() {
+        return dismissSelector;
+    }
+}
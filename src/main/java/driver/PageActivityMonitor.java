@@ -0,0 +1,86 @@
+package driver;
+
+import org.openqa.selenium.WebDriver;
+
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Browser-side counter of page activity, used by {@code WaitStrategy.READY}.
+ *
+ * <p>An injected script (see {@link BrowserScripts}) wraps fetch and XMLHttpRequest to track
+ * in-flight requests and watches the DOM for added/removed nodes and text changes. A page counts
+ * as ready once the document has loaded, no request is in flight and the DOM has been quiet for
+ * {@code page_ready_quiet_ms}.
+ */
+public final class PageActivityMonitor {
+
+    /**
+     * Requests running longer than this (long-polling, beacons, streaming) no longer hold readiness back,
+     * otherwise such pages would never be "ready".
+     */
+    public static final long MAX_REQUEST_AGE_MS = 10_000;
+
+    private static final String MONITOR_JS =
+            "(function () {" +
+            "  if (window.__pageActivity) { return; }" +
+            "  var activity = window.__pageActivity = {requests: {}, nextId: 0, last: Date.now()};" +
+            "  function touch() { activity.last = Date.now(); }" +
+            "  function begin() { var id = ++activity.nextId; activity.requests[id] = Date.now(); touch(); return id; }" +
+            "  function end(id) { delete activity.requests[id]; touch(); }" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      var id = begin();" +
+            "      return originalFetch.apply(this, arguments).then(" +
+            "          function (response) { end(id); return response; }," +
+            "          function (error) { end(id); throw error; });" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    var id = begin();" +
+            "    this.addEventListener('loadend', function () { end(id); });" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            // Attribute-only changes (animations, carousels) are ignored on purpose
+            "  new MutationObserver(touch).observe(document, {childList: true, subtree: true, characterData: true});" +
+            "})();";
+
+    /**
+     * Defines {@code pageQuietFor(maxRequestAgeMs)}: ms since the last DOM change / request end,
+     * 0 while loading or a request is in flight, -1 if the monitor isn't installed in this page.
+     */
+    public static final String QUIET_FOR_FN =
+            "function pageQuietFor(maxRequestAgeMs) {" +
+            "  var activity = window.__pageActivity;" +
+            "  if (!activity) { return -1; }" +
+            "  if (document.readyState !== 'complete') { return 0; }" +
+            "  var now = Date.now();" +
+            "  for (var id in activity.requests) {" +
+            "    if (now - activity.requests[id] < maxRequestAgeMs) { return 0; }" +
+            "  }" +
+            "  return now - activity.last;" +
+            "}";
+
+    // Prevent object creation
+    private PageActivityMonitor() {}
+
+    /** How long requests and DOM must stay quiet before a page counts as ready ({@code page_ready_quiet_ms}) */
+    public static long getQuietWindowMs() {
+        return PropertyUtils.getInt(ConfigProperties.PAGE_READY_QUIET_MS, 500);
+    }
+
+    /** Installs the monitor on a freshly created browser */
+    static void install(WebDriver driver) {
+        BrowserScripts.installOnEveryPage(driver, MONITOR_JS);
+    }
+
+    /**
+     * Installs the monitor in the current page if it isn't there yet (browsers without DevTools,
+     * where it can't follow navigations). Requests already running at that point aren't seen.
+     */
+    public static void ensureInstalled(WebDriver driver) {
+        BrowserScripts.injectNow(driver, MONITOR_JS);
+    }
+}
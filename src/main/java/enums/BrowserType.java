@@ -6,8 +6,22 @@ package enums;
  */
 public enum BrowserType {
 
-    CHROME, // Represents Google Chrome browser
+    CHROME(false),          // Represents Google Chrome browser
 
-    EDGE    // Represents Microsoft Edge browser
+    CHROME_HEADLESS(true),  // Google Chrome without a visible window (CI boxes)
 
+    EDGE(false),            // Represents Microsoft Edge browser
+
+    EDGE_HEADLESS(true);    // Microsoft Edge without a visible window (CI boxes)
+
+    private final boolean headless;
+
+    BrowserType(boolean headless) {
+        this.headless = headless;
+    }
+
+    /** True if this browser runs without a visible window */
+    public boolean isHeadless() {
+        return headless;
+    }
 }
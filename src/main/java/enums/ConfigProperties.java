@@ -3,10 +3,55 @@ package enums;
 /**
  * Enum to hold all keys present in the config.properties file.
  * Helps ensure type safety and avoids hardcoding strings across the framework.
+ * The key in the file is the lower-case form of the constant (e.g. DRIVER_POOL_SIZE -> driver_pool_size).
  */
 public enum ConfigProperties {
 
-    URL,            // Base URL of the application under test
-    BROWSER         // Browser to run tests on (CHROME, EDGE, etc.)
+    URL,                    // Base URL of the application under test
+    BROWSER,                // Browser to run tests on (CHROME, EDGE, etc.)
+
+    DRIVER_POOL_ENABLED,    // true = reuse warm browsers between tests instead of launching one per test
+    DRIVER_POOL_SIZE,       // Max number of idle browsers kept in the pool (per browser type)
+    DRIVER_POOL_WARMUP,     // Number of browsers started up front before the first test
+    DRIVER_POOL_MAX_USES,   // A pooled browser is retired after this many tests (guards against leaks)
+
+    NETWORK_BLOCKING_ENABLED, // true = block non-essential requests through DevTools (Chrome/Edge only)
+    BLOCKED_URL_PATTERNS,   // Comma-separated URL patterns to block, '*' wildcards allowed
+    BLOCKED_RESOURCE_TYPES, // Comma-separated DevTools resource types to block (Image, Font, Media, ...)
+
+    PARALLEL_EXECUTION,     // true = run data-provider rows concurrently
+    PARALLEL_THREADS,       // Fixed worker count; 0/absent = size to the host's cores and free memory
+    PARALLEL_MEMORY_PER_BROWSER_MB, // Memory budget per browser used when sizing workers automatically
+
+    EXCEL_CACHE_ENABLED,    // true = keep compiled Excel snapshots in target/excel-cache between runs
+
+    ADAPTIVE_WAITS_ENABLED, // true = explicit waits learn polling/timeouts per locator
+    ADAPTIVE_WAIT_MIN_SAMPLES, // Samples needed before a locator's learned first-stage timeout is used
+    IMPLICIT_WAIT_SECONDS,  // Implicit wait applied to every browser (0 = explicit waits only)
+
+    OVERLAY_GUARD_ENABLED,  // true = known popups are dismissed in the browser as soon as they appear
+
+    FAST_INPUT_ENABLED,     // true = fields are filled by script and suggestion lists awaited via DOM mutations
+
+    PAGE_READY_QUIET_MS,    // Requests and DOM must be quiet this long for WaitStrategy.READY
+
+    SCREENSHOT_JPEG_QUALITY, // 0-1: screenshots are stored as JPEG at this quality; 0 keeps PNG
+
+    EVIDENCE_BUFFER_SIZE,   // Page actions kept in memory per test and saved if it fails (0 = off)
+    EVIDENCE_SAMPLE_RATE,   // Sample every Nth page action
+    EVIDENCE_SCREENSHOTS,   // true = evidence includes a screenshot per sampled action, not just DOM
+
+    REPORT_QUEUE_CAPACITY,  // Max report events waiting for the writer thread
+    REPORT_QUEUE_POLICY,    // DROP (default) = drop INFO/PASS/WARN when full, BLOCK = wait for room
+    REPORT_FLUSH_INTERVAL_SECONDS, // How often report.html is rewritten during the run
+    REPORT_EVICT_FINISHED_TESTS, // true = finished tests leave memory; no periodic flush, report.html is rebuilt from the journal at the end
+    REPORT_AUTO_OPEN,       // true = open the report in the desktop browser after the run (skipped when headless)
+    REPORT_SCREENSHOT_MODE, // FULL = embed screenshots, THUMBNAIL = lazy thumbnail linking to the full image
+    REPORT_SHARD_MIN_TESTS, // Runs with at least this many tests get one report per test class plus an index (0 = off)
+
+    STEP_THRESHOLDS_MS,     // Page.action=warn/fail limits on a step's p95 latency within a test
+
+    COMMAND_PROFILER_ENABLED, // true = count and time every WebDriver command per test and page method
+    COMMAND_BASELINE_TOLERANCE_PERCENT // Allowed rise over config/command-baseline.properties before a test fails
 
 }
@@ -0,0 +1,17 @@
+package enums;
+
+/**
+ * Enum to define how seats are chosen from a bus seat map
+ * once the wanted seat type and count are known.
+ */
+public enum SeatSelection {
+
+    FIRST_AVAILABLE,  // Available seats in the order they appear on the page
+
+    ADJACENT,         // Seats side by side in one row, with no aisle in between
+
+    WINDOW,           // Only seats at the outer edge of their deck
+
+    CHEAPEST          // Lowest fare first; seats without a readable fare come last
+
+}
@@ -13,5 +13,9 @@ public enum WaitStrategy {
 
     VISIBLE,    // Waits until the element is visible on the UI
 
+    SETTLED,    // Waits in one script per poll until the element is in view, enabled and no longer animating
+
+    READY,      // Waits for the element and for the page's requests and DOM to go quiet (page transitions)
+
     NONE        // No wait strategy is applied; the element is fetched directly
 }
@@ -0,0 +1,248 @@
+package factories;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import constants.FrameworkConstants;
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Explicit waits that learn from how long each locator really takes.
+ *
+ * <ul>
+ *   <li>Every wait is timed per (WaitStrategy, locator) and the last {@value #WINDOW} results are kept.</li>
+ *   <li>Polling starts short (a fraction of the typical latency) and backs off up to Selenium's
+ *       usual 500 ms, so fast elements are picked up almost as soon as they are ready.</li>
+ *   <li>Once a locator has enough samples, the first stage of the wait ends at 3x its p99 (at least
+ *       3 s). A miss is logged and counted, and the wait continues up to the normal explicit wait,
+ *       so a slow moment never fails a test that a fixed wait would pass. Only successful waits are
+ *       recorded, so a slow success raises the profile while a timeout does not skew it.</li>
+ *   <li>The profile is saved to {@code target/wait-profile.properties} and reloaded next run.</li>
+ * </ul>
+ */
+public final class AdaptiveWaitEngine {
+
+    /** Recent samples kept per locator */
+    private static final int WINDOW = 50;
+
+    private static final long MIN_POLL_MS = 10;
+    private static final long MAX_POLL_MS = 500;  // Selenium's default polling interval
+    private static final double BACKOFF = 1.5;
+    private static final long MIN_TIMEOUT_MS = 3_000;
+    private static final int TIMEOUT_SAFETY_FACTOR = 3;
+
+    private static final Map<String, LatencyWindow> PROFILE = new ConcurrentHashMap<>();
+
+    static {
+        loadProfile();
+    }
+
+    // Prevent object creation
+    private AdaptiveWaitEngine() {}
+
+    /** True if explicit waits should use learned polling/timeouts */
+    public static boolean isEnabled() {
+        return PropertyUtils.getBoolean(ConfigProperties.ADAPTIVE_WAITS_ENABLED, false);
+    }
+
+    /**
+     * Waits for the condition using the locator's learned profile and records how long it took.
+     *
+     * @param key identifies the wait, e.g. "CLICKABLE|By.xpath: //button"
+     */
+    static <T> T await(WebDriver driver, String key, ExpectedCondition<T> condition) {
+        long defaultTimeoutMs = FrameworkConstants.getExplicitWait() * 1000L;
+        LatencyWindow window = PROFILE.computeIfAbsent(key, k -> new LatencyWindow());
+        long typicalMs = window.percentile(50, -1);
+        boolean learned = window.size() >= minSamples();
+        long timeoutMs = learned
+                ? Math.min(defaultTimeoutMs, Math.max(MIN_TIMEOUT_MS, window.percentile(99, 0) * TIMEOUT_SAFETY_FACTOR))
+                : defaultTimeoutMs;
+
+        long start = System.nanoTime();
+        if (learned && timeoutMs < defaultTimeoutMs) {
+            try {
+                T result = newWait(driver, timeoutMs, typicalMs).until(condition);
+                window.add(elapsedMs(start));
+                return result;
+            } catch (TimeoutException e) {
+                window.miss();
+                System.out.println("⚠️ Wait exceeded its learned " + timeoutMs + " ms, continuing up to "
+                        + defaultTimeoutMs + " ms: " + key);
+            }
+        }
+        // Timeouts are not latency samples: only a successful wait is recorded
+        T result = newWait(driver, Math.max(1, defaultTimeoutMs - elapsedMs(start)), typicalMs).until(condition);
+        window.add(elapsedMs(start));
+        return result;
+    }
+
+    /** Writes the current profile so the next run starts already tuned */
+    public static void saveProfile() {
+        if (PROFILE.isEmpty()) {
+            return;
+        }
+        Properties props = new Properties();
+        for (Map.Entry<String, LatencyWindow> entry : new TreeMap<>(PROFILE).entrySet()) {
+            String samples = entry.getValue().serialize();
+            if (!samples.isEmpty()) {
+                props.setProperty(entry.getKey(), samples);
+            }
+        }
+        Path file = Paths.get(FrameworkConstants.getWaitProfilePath());
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                props.store(out, "Observed explicit-wait latencies in ms (most recent last), per WaitStrategy|locator");
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Could not save wait profile: " + e.getMessage());
+        }
+    }
+
+    /**
+     * One line per locator: samples, p50, p95 and this run's waits past the learned timeout - handy when
+     * tuning pages. Empty if nothing was waited on.
+     */
+    public static String describeProfile() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(PROFILE).forEach((key, window) -> sb.append(String.format(
+                "%s -> n=%d, p50=%d ms, p95=%d ms, misses=%d%n",
+                key, window.size(), window.percentile(50, 0), window.percentile(95, 0), window.getMisses())));
+        return sb.toString();
+    }
+
+    // ===== Internal =====
+
+    private static WebDriverWait newWait(WebDriver driver, long timeoutMs, long typicalMs) {
+        // Start polling at a quarter of the typical latency (or the minimum when unknown)
+        long firstPollMs = typicalMs < 0 ? MIN_POLL_MS : clamp(typicalMs / 4, MIN_POLL_MS, MAX_POLL_MS);
+        return new WebDriverWait(driver, Duration.ofMillis(timeoutMs), Duration.ofMillis(firstPollMs),
+                Clock.systemDefaultZone(), new BackoffSleeper(firstPollMs));
+    }
+
+    private static int minSamples() {
+        return PropertyUtils.getInt(ConfigProperties.ADAPTIVE_WAIT_MIN_SAMPLES, 10);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static void loadProfile() {
+        Path file = Paths.get(FrameworkConstants.getWaitProfilePath());
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+            for (String key : props.stringPropertyNames()) {
+                PROFILE.put(key, LatencyWindow.parse(props.getProperty(key)));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Ignoring unreadable wait profile: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sleeper that ignores Selenium's fixed interval and grows its own:
+     * first poll after {@code firstPollMs}, then x1.5 each time, capped at 500 ms.
+     * One instance per wait, since it is stateful.
+     */
+    private static final class BackoffSleeper implements Sleeper {
+        private long nextMs;
+
+        private BackoffSleeper(long firstPollMs) {
+            this.nextMs = firstPollMs;
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            Thread.sleep(nextMs);
+            nextMs = Math.min(MAX_POLL_MS, (long) Math.ceil(nextMs * BACKOFF));
+        }
+    }
+
+    /** Fixed-size ring of the most recent latencies (ms) for one locator */
+    static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW];
+        private int count;
+        private int next;
+        private int misses; // waits that outlasted the learned timeout this run
+
+        synchronized void add(long ms) {
+            samples[next] = ms;
+            next = (next + 1) % WINDOW;
+            count = Math.min(count + 1, WINDOW);
+        }
+
+        synchronized void miss() {
+            misses++;
+        }
+
+        synchronized int getMisses() {
+            return misses;
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        /** Nearest-rank percentile of the window, or the fallback when empty */
+        synchronized long percentile(int pct, long fallback) {
+            if (count == 0) {
+                return fallback;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(pct / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, rank))];
+        }
+
+        /** Samples oldest first, comma separated */
+        synchronized String serialize() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                int slot = (next - count + i + WINDOW) % WINDOW;
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(samples[slot]);
+            }
+            return sb.toString();
+        }
+
+        static LatencyWindow parse(String csv) {
+            LatencyWindow window = new LatencyWindow();
+            for (String value : csv.split(",")) {
+                if (!value.isBlank()) {
+                    window.add(Long.parseLong(value.trim()));
+                }
+            }
+            return window;
+        }
+    }
+}
@@ -3,20 +3,62 @@ package factories;
 import java.time.Duration;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import constants.FrameworkConstants;
 import driver.DriverManager;
+import driver.PageActivityMonitor;
 import enums.WaitStrategy;
+import metrics.PageReadyRecorder;
+import metrics.WaitTimeRecorder;
+import utils.JsLocator;
 
 /**
  * Central place for handling different explicit wait strategies before returning a WebElement.
  */
 public final class ExplicitWaitFactory {
 
+    /**
+     * SETTLED check, evaluated in the browser so each poll is a single round-trip.
+     * Returns the element once it is in view, not disabled (attribute, a "disabled" class or a CSS-module
+     * "*_disabled__*" class such as Button_disabled__) and neither it nor an ancestor is running a finite
+     * animation/transition; otherwise scrolls it into view if needed and returns null.
+     * Overlays are not checked here - a covered element is the click's problem (callers fall back to a JS click).
+     */
+    private static final String SETTLED_JS = JsLocator.FUNCTIONS +
+            "var el = findOne(arguments[0], arguments[1]);" +
+            "if (!el) { return null; }" +
+            "var r = el.getBoundingClientRect();" +
+            "if (r.width === 0 || r.height === 0) { return null; }" +
+            "if (r.top < 0 || r.left < 0 || r.bottom > window.innerHeight || r.right > window.innerWidth) {" +
+            "  el.scrollIntoView({block: 'center'});" +
+            "  return null;" +
+            "}" +
+            "if (el.disabled || el.hasAttribute('disabled')) { return null; }" +
+            "if (/(^|\\s)(disabled|\\S*_disabled__\\S*)(\\s|$)/.test(el.getAttribute('class') || '')) { return null; }" +
+            "if (document.getAnimations && document.getAnimations().some(function (a) {" +
+            "      var target = a.effect && a.effect.target;" +
+            "      return a.playState === 'running' && target && target.contains(el)" +
+            "          && a.effect.getTiming().iterations !== Infinity;" +   // ignore endless spinners
+            "    })) { return null; }" +
+            "return el;";
+
+    /**
+     * READY check: returns the element once it is present and the page has been quiet (no fetch/XHR
+     * in flight, no DOM changes) for arguments[2] ms; "install" if the activity monitor is missing.
+     */
+    private static final String READY_JS = JsLocator.FUNCTIONS + PageActivityMonitor.QUIET_FOR_FN +
+            "var el = findOne(arguments[0], arguments[1]);" +
+            "if (!el) { return null; }" +
+            "var quiet = pageQuietFor(arguments[3]);" +
+            "if (quiet < 0) { return 'install'; }" +
+            "return quiet >= arguments[2] ? el : null;";
+
     // Prevent creating objects of this utility class
     private ExplicitWaitFactory() {}
 
@@ -31,25 +73,108 @@ public final class ExplicitWaitFactory {
         // Get current driver
         WebDriver driver = DriverManager.getDriver();
 
-        // Create wait object with default timeout from constants
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(FrameworkConstants.getExplicitWait()));
+        if (waitStrategy == WaitStrategy.NONE) {
+            return findWithImplicitWait(driver, locator); // no explicit wait at all
+        }
+
+        ExpectedCondition<WebElement> condition = conditionFor(waitStrategy, locator);
+        long start = System.nanoTime();
+        try {
+            // Implicit wait is suspended so each poll returns at once instead of stacking both waits
+            return DriverManager.withoutImplicitWait(() -> {
+                // Learned polling/timeouts per locator when enabled (see AdaptiveWaitEngine)
+                if (AdaptiveWaitEngine.isEnabled()) {
+                    return AdaptiveWaitEngine.await(driver, waitStrategy + "|" + locator, condition);
+                }
+
+                // Create wait object with default timeout from constants
+                WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(FrameworkConstants.getExplicitWait()));
+                return wait.until(condition);
+            });
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            WaitTimeRecorder.recordExplicit(elapsed);
+            if (waitStrategy == WaitStrategy.READY) {
+                PageReadyRecorder.record(locator, elapsed); // time-to-ready of this page transition
+            }
+        }
+    }
+
+    /**
+     * Plain findElement; the time is booked as implicit wait when an implicit wait is active,
+     * since that is where a missing element makes the call block.
+     */
+    private static WebElement findWithImplicitWait(WebDriver driver, By locator) {
+        if (DriverManager.getImplicitWait().isZero()) {
+            return driver.findElement(locator);
+        }
+        long start = System.nanoTime();
+        try {
+            return driver.findElement(locator);
+        } finally {
+            WaitTimeRecorder.recordImplicit(System.nanoTime() - start);
+        }
+    }
 
+    /** Maps a wait strategy to the Selenium condition that satisfies it */
+    private static ExpectedCondition<WebElement> conditionFor(WaitStrategy waitStrategy, By locator) {
         // Pick wait type based on enum value
         switch (waitStrategy) {
             case CLICKABLE:
-                return wait.until(ExpectedConditions.elementToBeClickable(locator)); // visible & enabled
+                return ExpectedConditions.elementToBeClickable(locator); // visible & enabled
 
             case VISIBLE:
-                return wait.until(ExpectedConditions.visibilityOfElementLocated(locator)); // only visible
+                return ExpectedConditions.visibilityOfElementLocated(locator); // only visible
 
             case PRESENCE:
-                return wait.until(ExpectedConditions.presenceOfElementLocated(locator)); // in DOM, not always visible
+                return ExpectedConditions.presenceOfElementLocated(locator); // in DOM, not always visible
+
+            case SETTLED:
+                return settled(locator); // in view, enabled, not animating - one script per poll
 
-            case NONE:
-                return driver.findElement(locator); // no wait at all
+            case READY:
+                return ready(locator); // present, and network + DOM quiet
 
             default:
                 throw new IllegalStateException("❌ Unknown WaitStrategy: " + waitStrategy);
         }
     }
+
+    /** Condition backed by {@link #READY_JS}; installs the activity monitor on pages that lack it */
+    private static ExpectedCondition<WebElement> ready(By locator) {
+        Object[] target = JsLocator.args(locator);
+        Object[] args = {target[0], target[1], PageActivityMonitor.getQuietWindowMs(), PageActivityMonitor.MAX_REQUEST_AGE_MS};
+        return new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                Object result = ((JavascriptExecutor) driver).executeScript(READY_JS, args);
+                if ("install".equals(result)) {
+                    PageActivityMonitor.ensureInstalled(driver);
+                    return null;
+                }
+                return (WebElement) result;
+            }
+
+            @Override
+            public String toString() {
+                return "page to be ready (network and DOM quiet) with element: " + locator;
+            }
+        };
+    }
+
+    /** Condition backed by {@link #SETTLED_JS}; the element is located in the browser on every poll */
+    private static ExpectedCondition<WebElement> settled(By locator) {
+        Object[] args = JsLocator.args(locator);
+        return new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                return (WebElement) ((JavascriptExecutor) driver).executeScript(SETTLED_JS, args);
+            }
+
+            @Override
+            public String toString() {
+                return "element to be in view, enabled and settled: " + locator;
+            }
+        };
+    }
 }
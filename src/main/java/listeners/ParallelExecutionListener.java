@@ -0,0 +1,39 @@
+package listeners;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.IDataProviderAnnotation;
+import org.testng.xml.XmlSuite;
+
+import utils.ExecutionCapacity;
+
+/**
+ * Switches data-provider rows to parallel execution when {@code parallel_execution=true}.
+ *
+ * <p>Marks every {@code @DataProvider} as parallel and sets the suite's data-provider
+ * thread count to {@link ExecutionCapacity#getWorkerCount()}.
+ * TestNG only honours these hooks for listeners declared in testng.xml (not via {@code @Listeners}).
+ */
+public class ParallelExecutionListener implements IAnnotationTransformer, IAlterSuiteListener {
+
+    @Override
+    public void transform(IDataProviderAnnotation annotation, Method method) {
+        if (ExecutionCapacity.isParallelEnabled()) {
+            annotation.setParallel(true);
+        }
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ExecutionCapacity.isParallelEnabled()) {
+            return;
+        }
+        int workers = ExecutionCapacity.getWorkerCount();
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(workers);
+        }
+    }
+}
@@ -1,30 +1,56 @@
 package listeners;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
-
+import driver.CommandProfiler;
+import driver.DriverManager;
+import factories.AdaptiveWaitEngine;
+import metrics.PageReadyRecorder;
+import metrics.StepMetrics;
+import metrics.WaitTimeRecorder;
 import reports.ExtentLogger;
 import reports.ExtentReportManager;
+import utils.EvidenceBuffer;
 import utils.ScreenshotUtils;
+import utils.TestDataRow;
+
+public class TestListener implements ITestListener, IInvokedMethodListener {
 
-public class TestListener implements ITestListener {
+    // Longest the suite end waits for background screenshot writes
+    private static final Duration SCREENSHOT_DRAIN_TIMEOUT = Duration.ofSeconds(30);
 
-    private static ExtentReports extent;
+    // Test-data column that names a row's scenario; keys the WebDriver command baseline
+    private static final String SCENARIO_COLUMN = "Scenario";
 
     @Override
     public void onStart(ITestContext context) {
-        extent = ExtentReportManager.initReport();
+        ExtentReportManager.initReport();
     }
 
     @Override
     public void onTestStart(ITestResult result) {
+        // Returns at once; the report entry is created on the report-writer thread
+        ExtentLogger.setTest(ExtentReportManager.createTest(getTestName(result),
+                result.getTestClass().getRealClass().getSimpleName()));
+        WaitTimeRecorder.reset();
+        PageReadyRecorder.reset();
+        StepMetrics.reset();
+        CommandProfiler.reset();
+        EvidenceBuffer.clear();
+    }
+
+    /** Method name, plus " - ScenarioName" when the DataProvider passed a Map with one */
+    private static String getTestName(ITestResult result) {
         // Default test name is the method name
         String testName = result.getMethod().getMethodName();
 
@@ -37,36 +63,148 @@ public class TestListener implements ITestListener {
                 testName += " - " + scenario;
             }
         }
+        return testName;
+    }
+
+    /**
+     * Key of the flow in the WebDriver command baseline: "method - Scenario" when the data row names
+     * its scenario, "method #n" (n = 1-based data row) when it doesn't, else just the method name.
+     */
+    private static String getFlowKey(ITestResult result) {
+        String flow = result.getMethod().getMethodName();
+        Object[] parameters = result.getParameters();
+        if (parameters.length > 0 && parameters[0] instanceof Map) {
+            Object scenario = ((Map<?, ?>) parameters[0]).get(SCENARIO_COLUMN);
+            if (scenario != null && !scenario.toString().isBlank()) {
+                return flow + " - " + scenario.toString().trim();
+            }
+            if (parameters[0] instanceof TestDataRow) {
+                return flow + " #" + ((TestDataRow) parameters[0]).getRowNumber();
+            }
+        }
+        return flow;
+    }
 
-        ExtentTest test = extent.createTest(testName);
-        ExtentLogger.setTest(test);
+    /**
+     * Applies the step latency limits ({@code step_thresholds_ms}) and the WebDriver command baseline
+     * to a test that passed. Runs before onTestSuccess, so a breach still turns the result into a failure.
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || result.getStatus() != ITestResult.SUCCESS) {
+            return;
+        }
+        for (String warning : StepMetrics.getThresholdWarnings()) {
+            ExtentLogger.warn("Slow step: " + warning);
+        }
+        List<String> failures = new ArrayList<>(StepMetrics.getThresholdFailures());
+        String commandRegression = CommandProfiler.checkBaseline(getFlowKey(result));
+        if (commandRegression != null) {
+            failures.add(commandRegression);
+        }
+        if (!failures.isEmpty()) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Over limit: " + String.join("; ", failures)));
+        }
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
+        logRunStats(result);
+        EvidenceBuffer.clear(); // passed: the buffered evidence is never written
         ExtentLogger.pass("✅ Test Passed");
         ExtentLogger.remove();
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
+        logRunStats(result);
         ExtentLogger.fail("❌ " + result.getThrowable());
 
         // Capture and attach screenshot
         String screenshotPath = ScreenshotUtils.captureScreenshot(result.getMethod().getMethodName());
         ExtentLogger.addScreenshot(screenshotPath);
 
+        // Steps leading up to the failure, kept in memory until now
+        String evidencePath = EvidenceBuffer.persist(result.getMethod().getMethodName());
+        if (evidencePath != null) {
+            ExtentLogger.info("Evidence of the last steps: " + evidencePath);
+        }
+
         ExtentLogger.remove();
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
+        logRunStats(result); // a skip can come mid-test; don't leave its counters to the next test
+        EvidenceBuffer.clear();
         ExtentLogger.skip("⚠️ " + result.getThrowable());
         ExtentLogger.remove();
     }
 
+    /**
+     * Adds this test's wait tax (per page), step latencies, WebDriver commands, page time-to-ready,
+     * popup dismissals and blocked-request counts
+     * (for the features that are switched on) to its report entry.
+     */
+    private static void logRunStats(ITestResult result) {
+        try {
+            String waitStats = WaitTimeRecorder.summarizeAndReset();
+            if (waitStats != null) {
+                ExtentLogger.info(waitStats);
+            }
+            String stepStats = StepMetrics.summarizeAndReset();
+            if (stepStats != null) {
+                ExtentLogger.info(stepStats);
+            }
+            String commandStats = CommandProfiler.summarizeAndReset(getFlowKey(result));
+            if (commandStats != null) {
+                ExtentLogger.info(commandStats);
+            }
+            String readyStats = PageReadyRecorder.summarizeAndReset();
+            if (readyStats != null) {
+                ExtentLogger.info(readyStats);
+            }
+            String overlayStats = DriverManager.getOverlayStats();
+            if (overlayStats != null) {
+                ExtentLogger.info(overlayStats);
+            }
+            String networkStats = DriverManager.getNetworkStats();
+            if (networkStats != null) {
+                ExtentLogger.info(networkStats);
+            }
+        } catch (Exception e) {
+            // Stats are best-effort and must never hide the real test outcome
+        }
+    }
+
     @Override
     public void onFinish(ITestContext context) {
+        // Record how well the browser pool did in this run (hit/miss, checkout latency)
+        String poolStats = DriverManager.getPoolStats();
+        if (poolStats != null) {
+            ExtentReportManager.setSystemInfo("Driver Pool", poolStats);
+        }
+        // Suite-wide step latency percentiles, for comparing releases
+        String stepMetricsPath = StepMetrics.writeSuiteSummary();
+        if (stepMetricsPath != null) {
+            ExtentReportManager.setSystemInfo("Step Metrics", stepMetricsPath);
+        }
+        // Per-flow command counts, the candidate baseline for the next run
+        String commandCountsPath = CommandProfiler.writeFlowCounts();
+        if (commandCountsPath != null) {
+            ExtentReportManager.setSystemInfo("WebDriver Commands", commandCountsPath);
+        }
+        // Keep what the waits learned this run for the next one
+        if (AdaptiveWaitEngine.isEnabled()) {
+            AdaptiveWaitEngine.saveProfile();
+            String waitProfile = AdaptiveWaitEngine.describeProfile();
+            if (!waitProfile.isEmpty()) {
+                System.out.print("ℹ️ Learned wait profile:" + System.lineSeparator() + waitProfile);
+            }
+        }
+        // Screenshots are written in the background - make sure the report's links resolve
+        ScreenshotUtils.awaitPendingWrites(SCREENSHOT_DRAIN_TIMEOUT);
         try {
             ExtentReportManager.flushReport();
         } catch (IOException e) {
@@ -0,0 +1,85 @@
+package metrics;
+
+/**
+ * Fixed-size latency histogram in milliseconds: one bucket per ms below 16 ms, then 8 buckets per
+ * power of two (about 12% wide). Recording is an array increment, so it can sit on every page step.
+ * Not thread-safe; callers confine it to one thread or synchronize.
+ */
+final class LatencyHistogram {
+
+    private static final int LINEAR = 16;       // 0-15 ms: exact
+    private static final int SUB_BUCKETS = 8;   // per power of two above that
+    private static final int MAX_EXPONENT = 24; // 2^24 ms (~4.6 h); anything longer lands in the last bucket
+
+    private final long[] counts = new long[LINEAR + (MAX_EXPONENT - 3) * SUB_BUCKETS];
+    private long count;
+    private long totalMs;
+    private long maxMs;
+
+    void record(long nanos) {
+        long ms = Math.max(0, nanos / 1_000_000);
+        counts[index(ms)]++;
+        count++;
+        totalMs += ms;
+        maxMs = Math.max(maxMs, ms);
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        totalMs += other.totalMs;
+        maxMs = Math.max(maxMs, other.maxMs);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    long getTotalMs() {
+        return totalMs;
+    }
+
+    long getMaxMs() {
+        return maxMs;
+    }
+
+    /** Upper edge of the bucket holding the given percentile (0-100), capped at the max seen; 0 if empty */
+    long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxMs);
+            }
+        }
+        return maxMs;
+    }
+
+    private int index(long ms) {
+        if (ms < LINEAR) {
+            return (int) ms;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(ms); // >= 4
+        if (exponent > MAX_EXPONENT) {
+            return counts.length - 1;
+        }
+        int sub = (int) (ms >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - 4) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / SUB_BUCKETS + 4;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        long width = 1L << (exponent - 3);
+        return (SUB_BUCKETS + sub) * width + width - 1;
+    }
+}
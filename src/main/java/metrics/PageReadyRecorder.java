@@ -0,0 +1,39 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records, per test thread, how long each page transition took to become ready
+ * (WaitStrategy.READY: target element present, network and DOM quiet).
+ * Summarised into the report at the end of each test.
+ */
+public final class PageReadyRecorder {
+
+    // "Page -> locator: ms" in the order the transitions happened, one list per test thread
+    private static final ThreadLocal<List<String>> TRANSITIONS = ThreadLocal.withInitial(ArrayList::new);
+
+    // Prevent object creation
+    private PageReadyRecorder() {}
+
+    /** Records one transition, attributed to the calling page object */
+    public static void record(Object target, long nanos) {
+        TRANSITIONS.get().add(String.format("%s -> %s: %d ms",
+                WaitTimeRecorder.currentPage(), target, nanos / 1_000_000));
+    }
+
+    /** Clears the current thread's transitions (call when a test starts) */
+    public static void reset() {
+        TRANSITIONS.remove();
+    }
+
+    /**
+     * Returns e.g. "Time to ready: BusBookingPage -> By.xpath: //h1: 2350 ms; ..." for the current
+     * test and clears it. Returns null if nothing was recorded.
+     */
+    public static String summarizeAndReset() {
+        List<String> transitions = TRANSITIONS.get();
+        TRANSITIONS.remove();
+        return transitions.isEmpty() ? null : "Time to ready: " + String.join("; ", transitions);
+    }
+}
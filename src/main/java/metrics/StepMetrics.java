@@ -0,0 +1,238 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openqa.selenium.json.Json;
+
+import constants.FrameworkConstants;
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Latency of every page step (BasePage click, sendKeys, getText, ...) per page, action and locator,
+ * split into time spent waiting (explicit/implicit waits, see {@link WaitTimeRecorder}) and acting.
+ *
+ * <p>Steps are recorded per test thread; at the end of a test the percentiles go into its report entry
+ * and the test's histograms are merged into the suite totals, written as CSV and JSON when the run ends.
+ * {@code step_thresholds_ms} sets a warn and fail limit on a step's p95 within a test, for all locators
+ * of a page action, e.g. {@code BusResultsPage.click=3000/10000, BusBookingPage.sendKeys=2000/0}.
+ */
+public final class StepMetrics {
+
+    /** A step in progress, from {@link #begin()}; counted as failed unless {@link #succeeded()} is called */
+    public static final class Step {
+        private final long start = System.nanoTime();
+        private final long waitAtStart = WAIT_NANOS.get()[0];
+        private boolean succeeded;
+
+        /** Marks the step as done without error (call last inside the step's try block) */
+        public void succeeded() {
+            succeeded = true;
+        }
+
+        public boolean isSucceeded() {
+            return succeeded;
+        }
+    }
+
+    /** Wait, act and total latency of one step key */
+    private static final class Stats {
+        final LatencyHistogram wait = new LatencyHistogram();
+        final LatencyHistogram act = new LatencyHistogram();
+        final LatencyHistogram total = new LatencyHistogram();
+        long failed; // steps that threw or timed out - included in the histograms
+
+        void add(Stats other) {
+            failed += other.failed;
+            wait.add(other.wait);
+            act.add(other.act);
+            total.add(other.total);
+        }
+    }
+
+    private static final String ROW_HTML = "<tr><td>%s</td><td>%d</td><td>%d</td><td>%d</td><td>%d</td><td>%d</td>"
+            + "<td>%d</td><td>%d%%</td></tr>";
+    private static final String CSV_HEADER = "step,count,failed,total_p50_ms,total_p95_ms,total_p99_ms,max_ms,"
+            + "wait_p50_ms,wait_p95_ms,act_p50_ms,act_p95_ms";
+
+    // Running total of wait nanos on this thread; a step's wait share is the difference over its lifetime
+    private static final ThreadLocal<long[]> WAIT_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<Map<String, Stats>> TEST_STEPS = ThreadLocal.withInitial(LinkedHashMap::new);
+    private static final Map<String, Stats> SUITE_STEPS = new TreeMap<>(); // guarded by itself
+
+    // "Page.action" -> {warn ms, fail ms}
+    private static final Map<String, long[]> THRESHOLDS = parseThresholds(
+            PropertyUtils.get(ConfigProperties.STEP_THRESHOLDS_MS, ""));
+
+    // Prevent object creation
+    private StepMetrics() {}
+
+    /** Starts timing a step on the current thread */
+    public static Step begin() {
+        return new Step();
+    }
+
+    /**
+     * Records the step under "Page.action [locator]". Failed steps (timeouts, exceptions) count too, so
+     * they show up in the percentiles and thresholds; call this from a finally block.
+     * @param target locator (or anything with a readable toString), null for steps without one
+     */
+    public static void end(Step step, String page, String action, Object target) {
+        long total = System.nanoTime() - step.start;
+        long wait = Math.min(total, WAIT_NANOS.get()[0] - step.waitAtStart);
+        String key = target == null ? page + "." + action : page + "." + action + " [" + target + "]";
+        Stats stats = TEST_STEPS.get().computeIfAbsent(key, k -> new Stats());
+        stats.total.record(total);
+        stats.wait.record(wait);
+        stats.act.record(total - wait);
+        if (!step.succeeded) {
+            stats.failed++;
+        }
+    }
+
+    /** Called by {@link WaitTimeRecorder} for every explicit/implicit wait */
+    static void addWait(long nanos) {
+        WAIT_NANOS.get()[0] += nanos;
+    }
+
+    /** Clears the current thread's steps (call when a test starts) */
+    public static void reset() {
+        TEST_STEPS.remove();
+    }
+
+    /** Steps of the current test whose p95 is over their warn limit (and not over the fail limit) */
+    public static List<String> getThresholdWarnings() {
+        return breaches(0);
+    }
+
+    /** Steps of the current test whose p95 is over their fail limit */
+    public static List<String> getThresholdFailures() {
+        return breaches(1);
+    }
+
+    /**
+     * Returns an HTML table of the current test's steps (count, failed, p50/p95/max, wait p95, share of time waiting),
+     * merges them into the suite totals and clears them. Returns null if nothing was recorded.
+     */
+    public static String summarizeAndReset() {
+        Map<String, Stats> steps = TEST_STEPS.get();
+        TEST_STEPS.remove();
+        if (steps.isEmpty()) {
+            return null;
+        }
+        StringBuilder rows = new StringBuilder();
+        synchronized (SUITE_STEPS) {
+            for (Map.Entry<String, Stats> entry : steps.entrySet()) {
+                Stats stats = entry.getValue();
+                SUITE_STEPS.computeIfAbsent(entry.getKey(), k -> new Stats()).add(stats);
+                long totalMs = stats.total.getTotalMs();
+                rows.append(String.format(ROW_HTML, escape(entry.getKey()), stats.total.getCount(), stats.failed,
+                        stats.total.percentile(50), stats.total.percentile(95), stats.total.getMaxMs(),
+                        stats.wait.percentile(95),
+                        totalMs == 0 ? 0 : stats.wait.getTotalMs() * 100 / totalMs));
+            }
+        }
+        return "Step latency (ms):<table><tr><th>Step</th><th>n</th><th>failed</th><th>p50</th><th>p95</th><th>max</th>"
+                + "<th>wait p95</th><th>waiting</th></tr>" + rows + "</table>";
+    }
+
+    /**
+     * Writes the suite totals to target/step-metrics.csv and .json (one row per step).
+     * @return path of the CSV, or null if no steps were recorded
+     */
+    public static String writeSuiteSummary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        synchronized (SUITE_STEPS) {
+            if (SUITE_STEPS.isEmpty()) {
+                return null;
+            }
+            for (Map.Entry<String, Stats> entry : SUITE_STEPS.entrySet()) {
+                Stats stats = entry.getValue();
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("step", entry.getKey());
+                row.put("count", stats.total.getCount());
+                row.put("failed", stats.failed);
+                row.put("total_p50_ms", stats.total.percentile(50));
+                row.put("total_p95_ms", stats.total.percentile(95));
+                row.put("total_p99_ms", stats.total.percentile(99));
+                row.put("max_ms", stats.total.getMaxMs());
+                row.put("wait_p50_ms", stats.wait.percentile(50));
+                row.put("wait_p95_ms", stats.wait.percentile(95));
+                row.put("act_p50_ms", stats.act.percentile(50));
+                row.put("act_p95_ms", stats.act.percentile(95));
+                rows.add(row);
+
+                csv.append('"').append(entry.getKey().replace("\"", "\"\"")).append('"');
+                row.values().stream().skip(1).forEach(value -> csv.append(',').append(value));
+                csv.append('\n');
+            }
+        }
+        Path csvPath = Paths.get(FrameworkConstants.getStepMetricsPath() + ".csv").toAbsolutePath();
+        try {
+            Files.createDirectories(csvPath.getParent());
+            Files.write(csvPath, csv.toString().getBytes(StandardCharsets.UTF_8));
+            Files.write(Paths.get(FrameworkConstants.getStepMetricsPath() + ".json"),
+                    new Json().toJson(rows).getBytes(StandardCharsets.UTF_8));
+            return csvPath.toString();
+        } catch (IOException e) {
+            System.err.println("❌ Failed to write step metrics: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> breaches(int level) {
+        List<String> breaches = new ArrayList<>();
+        if (THRESHOLDS.isEmpty()) {
+            return breaches;
+        }
+        for (Map.Entry<String, Stats> entry : TEST_STEPS.get().entrySet()) {
+            String key = entry.getKey();
+            int bracket = key.indexOf(" [");
+            long[] limits = THRESHOLDS.get(bracket < 0 ? key : key.substring(0, bracket));
+            if (limits == null) {
+                continue;
+            }
+            long p95 = entry.getValue().total.percentile(95);
+            boolean overFail = limits[1] > 0 && p95 > limits[1];
+            boolean overWarn = limits[0] > 0 && p95 > limits[0];
+            if (level == 1 ? overFail : overWarn && !overFail) {
+                breaches.add(String.format("%s p95=%d ms > %d ms", key, p95, limits[level]));
+            }
+        }
+        return breaches;
+    }
+
+    /** "Page.action=warn/fail, ..." (0 = no limit); malformed entries are reported and skipped */
+    private static Map<String, long[]> parseThresholds(String spec) {
+        Map<String, long[]> thresholds = new HashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            try {
+                String[] keyAndLimits = entry.split("=");
+                String[] limits = keyAndLimits[1].split("/");
+                thresholds.put(keyAndLimits[0].trim(), new long[] {Long.parseLong(limits[0].trim()),
+                        limits.length > 1 ? Long.parseLong(limits[1].trim()) : 0});
+            } catch (RuntimeException e) {
+                System.err.println("❌ Ignoring malformed step threshold: " + entry.trim());
+            }
+        }
+        return thresholds;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
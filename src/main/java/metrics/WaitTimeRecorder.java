@@ -0,0 +1,76 @@
+package metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tracks, per test thread, how much time each page object spent waiting:
+ * explicit waits (ExplicitWaitFactory) and implicit waits (element lookups made while an
+ * implicit wait is active). Summarised into the report at the end of each test.
+ */
+public final class WaitTimeRecorder {
+
+    // page name -> {explicit nanos, implicit nanos}, one map per test thread
+    private static final ThreadLocal<Map<String, long[]>> WAITS = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private static final int EXPLICIT = 0;
+    private static final int IMPLICIT = 1;
+
+    // Prevent object creation
+    private WaitTimeRecorder() {}
+
+    /** Records time spent in an explicit wait, attributed to the calling page object */
+    public static void recordExplicit(long nanos) {
+        add(EXPLICIT, nanos);
+    }
+
+    /** Records time spent in a lookup that was subject to the implicit wait */
+    public static void recordImplicit(long nanos) {
+        add(IMPLICIT, nanos);
+    }
+
+    /** Clears the current thread's totals (call when a test starts) */
+    public static void reset() {
+        WAITS.remove();
+    }
+
+    /**
+     * Returns e.g. "Wait time: BusBookingPage explicit=1200 ms, implicit=0 ms; ..." for the current
+     * test and clears the totals. Returns null if nothing was recorded.
+     */
+    public static String summarizeAndReset() {
+        Map<String, long[]> waits = WAITS.get();
+        WAITS.remove();
+        if (waits.isEmpty()) {
+            return null;
+        }
+        long totalExplicit = 0;
+        long totalImplicit = 0;
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, long[]> entry : waits.entrySet()) {
+            long[] t = entry.getValue();
+            totalExplicit += t[EXPLICIT];
+            totalImplicit += t[IMPLICIT];
+            sb.append(String.format("; %s explicit=%d ms, implicit=%d ms",
+                    entry.getKey(), t[EXPLICIT] / 1_000_000, t[IMPLICIT] / 1_000_000));
+        }
+        return String.format("Wait time: explicit=%d ms, implicit=%d ms%s",
+                totalExplicit / 1_000_000, totalImplicit / 1_000_000, sb);
+    }
+
+    private static void add(int kind, long nanos) {
+        StepMetrics.addWait(nanos); // the wait share of the page step in progress
+        WAITS.get().computeIfAbsent(currentPage(), p -> new long[2])[kind] += nanos;
+    }
+
+    /** Simple name of the nearest page object on the call stack, or "Other" */
+    static String currentPage() {
+        Optional<String> page = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(c -> c.getPackageName().equals("pages") && !c.getSimpleName().equals("BasePage"))
+                .map(Class::getSimpleName)
+                .findFirst());
+        return page.orElse("Other");
+    }
+}
@@ -1,16 +1,42 @@
 package pages;
 
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.WebDriverWait;
 
+import constants.FrameworkConstants;
 import driver.DriverManager;
+import enums.ConfigProperties;
 import enums.WaitStrategy;
 import factories.ExplicitWaitFactory;
+import metrics.StepMetrics;
+import metrics.WaitTimeRecorder;
+import reports.ExtentLogger;
+import utils.EvidenceBuffer;
+import utils.JsLocator;
+import utils.PropertyUtils;
 
 /**
  * BasePage contains common Selenium actions reused across all page classes
@@ -18,30 +44,261 @@ import factories.ExplicitWaitFactory;
  */
 public class BasePage {
 
+    // Calendar captions look like "September 2025"
+    private static final DateTimeFormatter MONTH_YEAR = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive().appendPattern("MMMM uuuu").toFormatter(Locale.ENGLISH);
+
+    // Safety net against a calendar that never shows the wanted month
+    private static final int MAX_CALENDAR_STEPS = 24;
+
+    // Longest wait for the captions to change after one 'next' click
+    private static final long CALENDAR_SETTLE_MS = 2_000;
+
+    // Option text as the user sees it: innerText with whitespace collapsed
+    private static final String OPTION_TEXT_FN =
+            "function optionText(el) { return (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim(); }";
+
+    // Texts of all matching options, or null while there are none yet (so it can be polled)
+    private static final String OPTION_TEXTS_JS = JsLocator.FUNCTIONS + OPTION_TEXT_FN +
+            "var options = findAll(arguments[0], arguments[1]);" +
+            "return options.length ? options.map(optionText) : null;";
+
+    // Async: clicks the 'next' arrow up to arguments[4] times, waiting (max arguments[5] ms) for the captions
+    // to change each time
+    private static final String ADVANCE_CALENDAR_JS = JsLocator.FUNCTIONS + OPTION_TEXT_FN +
+            "var headers = [arguments[0], arguments[1]], arrow = [arguments[2], arguments[3]];" +
+            "var wanted = arguments[4], settleMs = arguments[5], done = arguments[arguments.length - 1], made = 0;" +
+            "function captions() { return findAll(headers[0], headers[1]).map(optionText); }" +
+            "function step() {" +
+            "  var next = made < wanted ? findOne(arrow[0], arrow[1]) : null;" +
+            "  if (!next) { done({clicks: made, headers: captions()}); return; }" +
+            "  var before = captions().join('|'), started = Date.now();" +
+            "  next.click();" +
+            "  made++;" +
+            "  (function settle() {" +
+            "    if (captions().join('|') !== before || Date.now() - started > settleMs) { step(); }" +
+            "    else { setTimeout(settle, 16); }" +
+            "  })();" +
+            "}" +
+            "step();";
+
+    // Clicks the first option whose text equals 'wanted' (case-insensitive); returns its text or null
+    private static final String CLICK_OPTION_FN =
+            "function clickOption(using, value, wanted) {" +
+            "  wanted = wanted.replace(/\\s+/g, ' ').trim().toLowerCase();" +
+            "  var options = findAll(using, value);" +
+            "  for (var i = 0; i < options.length; i++) {" +
+            "    var text = optionText(options[i]);" +
+            "    if (text.toLowerCase() === wanted) {" +
+            "      options[i].scrollIntoView({block: 'center'});" +
+            "      options[i].click();" +
+            "      return text;" +
+            "    }" +
+            "  }" +
+            "  return null;" +
+            "}";
+
+    private static final String CLICK_OPTION_JS = JsLocator.FUNCTIONS + OPTION_TEXT_FN + CLICK_OPTION_FN +
+            "return clickOption(arguments[0], arguments[1], arguments[2]);";
+
+    // Async: same as CLICK_OPTION_JS, but retried on DOM mutations (not polled) for up to arguments[3] ms
+    private static final String CLICK_OPTION_ON_MUTATION_JS = JsLocator.FUNCTIONS + OPTION_TEXT_FN + CLICK_OPTION_FN +
+            "var using = arguments[0], value = arguments[1], wanted = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var clicked = clickOption(using, value, wanted);" +
+            "if (clicked !== null) { done(clicked); return; }" +
+            "var pending = false, finished = false, observer, timer;" +
+            "function finish(result) {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  clearTimeout(timer);" +
+            "  done(result);" +
+            "}" +
+            "observer = new MutationObserver(function () {" +
+            "  if (pending) { return; }" +
+            "  pending = true;" +   // one check per batch of mutations
+            "  Promise.resolve().then(function () {" +
+            "    pending = false;" +
+            "    var result = clickOption(using, value, wanted);" +
+            "    if (result !== null) { finish(result); }" +
+            "  });" +
+            "});" +
+            "observer.observe(document, {childList: true, subtree: true, characterData: true});" +
+            "timer = setTimeout(function () { finish(null); }, arguments[3]);";
+
+    // Uses the native value setter so framework-controlled inputs see the change; false (nothing set) for
+    // anything that isn't an input or textarea, e.g. contenteditable fields - callers type into those instead
+    private static final String SET_VALUE_FN =
+            "function setValue(el, value) {" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+            "      : el instanceof HTMLInputElement ? HTMLInputElement.prototype : null;" +
+            "  var descriptor = proto && Object.getOwnPropertyDescriptor(proto, 'value');" +
+            "  if (!descriptor || !descriptor.set) { return false; }" +
+            "  el.focus();" +
+            "  descriptor.set.call(el, value);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  return true;" +
+            "}";
+
+    private static final String SET_VALUE_JS = SET_VALUE_FN +
+            "try {" +
+            "  return setValue(arguments[0], arguments[1]) ? arguments[0].value : null;" +
+            "} catch (e) { return null; }";
+
+    /*
+     * Async: performs every FormFill step in order, then - after the page has had a tick to re-render -
+     * re-reads each typed field and the state of each clicked checkbox/radio (the element, its label's
+     * control or an input inside it) or aria-checked/selected/pressed element. A click whose state didn't
+     * change and isn't "true" didn't take. Returns one entry per field: null if fine, otherwise why it failed.
+     */
+    private static final String FILL_FORM_JS = JsLocator.FUNCTIONS + SET_VALUE_FN +
+            "function clickState(el) {" +
+            "  var input = el.matches('input') ? el" +
+            "      : el.control || el.querySelector('input[type=checkbox], input[type=radio]');" +
+            "  if (input && (input.type === 'checkbox' || input.type === 'radio')) {" +
+            "    return 'checked=' + input.checked;" +
+            "  }" +
+            "  var attrs = ['aria-checked', 'aria-selected', 'aria-pressed'];" +
+            "  for (var a = 0; a < attrs.length; a++) {" +
+            "    if (el.hasAttribute(attrs[a])) { return attrs[a] + '=' + el.getAttribute(attrs[a]); }" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "var fields = arguments[0], done = arguments[arguments.length - 1], results = [], before = [];" +
+            "fields.forEach(function (f, i) {" +
+            "  var el = findOne(f.using, f.value);" +
+            "  if (!el) { results[i] = 'not found'; return; }" +
+            "  try {" +
+            "    el.scrollIntoView({block: 'center'});" +
+            "    if (f.action === 'TYPE' && !setValue(el, f.text)) { results[i] = 'not a text field'; return; }" +
+            "    if (f.action !== 'TYPE') { before[i] = clickState(el); el.click(); }" +
+            "    results[i] = null;" +
+            "  } catch (e) { results[i] = String(e && e.message || e); }" +
+            "});" +
+            "setTimeout(function () {" +
+            "  fields.forEach(function (f, i) {" +
+            "    if (results[i] !== null || (f.action !== 'TYPE' && before[i] == null)) { return; }" +
+            "    var el = findOne(f.using, f.value);" +
+            "    if (!el) { results[i] = 'removed after filling'; return; }" +
+            "    if (f.action === 'TYPE') {" +
+            "      if (el.value !== f.text) { results[i] = \"value is '\" + el.value + \"'\"; }" +
+            "      return;" +
+            "    }" +
+            "    var state = clickState(el);" +
+            "    if (state === before[i] && !/=true$/.test(state)) {" +
+            "      results[i] = 'click did not take (' + state + ')';" +
+            "    }" +
+            "  });" +
+            "  done(results);" +
+            "}, 0);";
+
     /** Clicks an element after applying the given wait strategy */
     protected void click(By locator, WaitStrategy waitStrategy) {
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        element.click();
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
+            element.click();
+            step.succeeded();
+        } finally {
+            afterAction("click", locator, step);
+        }
     }
 
-    /** Sends text to an input after clearing it first */
+    /**
+     * Sends text to an input after clearing it first.
+     * In fast input mode the value is set in one script instead (falls back to typing if the field rejects it).
+     */
     protected void sendKeys(By locator, String value, WaitStrategy waitStrategy) {
         if (value == null || value.isEmpty()) {
             throw new IllegalArgumentException("Input value cannot be null or empty"); // Validation
         }
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        element.clear();
-        element.sendKeys(value);
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
+            if (!isFastInput() || !setValue(element, value)) {
+                element.clear();
+                element.sendKeys(value);
+            }
+            step.succeeded();
+        } finally {
+            afterAction("sendKeys", locator, step);
+        }
+    }
+
+    /** True if {@code fast_input_enabled}: fields are set by script and suggestion lists awaited via DOM mutations */
+    protected static boolean isFastInput() {
+        return PropertyUtils.getBoolean(ConfigProperties.FAST_INPUT_ENABLED, false);
+    }
+
+    /** Sets the value and fires input/change in one call; false if the page didn't keep it (e.g. masked fields) */
+    private static boolean setValue(WebElement element, String value) {
+        Object result = ((JavascriptExecutor) DriverManager.getDriver()).executeScript(SET_VALUE_JS, element, value);
+        return value.equals(result);
     }
 
     /** Sends text without clearing the field (for auto-suggest fields) */
     protected void sendKeysWithoutClear(By locator, String value, WaitStrategy waitStrategy) {
-        ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).sendKeys(value);
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).sendKeys(value);
+            step.succeeded();
+        } finally {
+            afterAction("sendKeys", locator, step);
+        }
     }
 
     /** Presses ENTER key on the given element */
     protected void pressEnter(By locator, WaitStrategy waitStrategy) {
-        ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).sendKeys(Keys.ENTER);
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).sendKeys(Keys.ENTER);
+            step.succeeded();
+        } finally {
+            afterAction("pressEnter", locator, step);
+        }
+    }
+
+    /**
+     * Fills a whole form in one browser call and checks the typed values and clicked checkboxes/radios
+     * in the same call.
+     * Fields that fail there (not rendered yet, value rejected, ...) are retried one by one with the
+     * normal wait + sendKeys/click; the names of those fields are logged to the report.
+     *
+     * @return names of the fields that needed the fallback (empty if the batch did everything)
+     */
+    protected List<String> fillForm(FormFill form) {
+        StepMetrics.Step step = StepMetrics.begin();
+        List<String> failed = new ArrayList<>();
+        List<FormFill.Field> fields = form.fields();
+        try {
+            List<?> results = (List<?>) ((JavascriptExecutor) DriverManager.getDriver())
+                    .executeAsyncScript(FILL_FORM_JS, form.toScriptArgument());
+
+            for (int i = 0; i < fields.size(); i++) {
+                if (results.get(i) == null) {
+                    continue;
+                }
+                FormFill.Field field = fields.get(i);
+                failed.add(field.name + " (" + results.get(i) + ")");
+                if (field.action == FormFill.Action.TYPE) {
+                    WebElement element = ExplicitWaitFactory.performExplicitWait(WaitStrategy.PRESENCE, field.locator);
+                    element.clear();
+                    element.sendKeys(field.value);
+                } else {
+                    click(field.locator, WaitStrategy.CLICKABLE);
+                }
+            }
+            step.succeeded();
+        } finally {
+            afterAction("fillForm", null, step);
+        }
+        if (!failed.isEmpty()) {
+            ExtentLogger.info("Form fill: " + (fields.size() - failed.size()) + "/" + fields.size()
+                    + " fields in one call, retried individually: " + failed);
+        }
+        return failed;
     }
 
     /** Returns current page title */
@@ -51,85 +308,377 @@ public class BasePage {
 
     /** Returns true if element is displayed */
     protected boolean isDisplayed(By locator, WaitStrategy waitStrategy) {
-        return ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).isDisplayed();
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            boolean displayed = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).isDisplayed();
+            step.succeeded();
+            return displayed;
+        } finally {
+            StepMetrics.end(step, getClass().getSimpleName(), "isDisplayed", locator);
+        }
     }
 
     /** Gets visible text of an element */
     protected String getText(By locator, WaitStrategy waitStrategy) {
-        return ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).getText();
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            String text = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator).getText();
+            step.succeeded();
+            return text;
+        } finally {
+            StepMetrics.end(step, getClass().getSimpleName(), "getText", locator);
+        }
     }
 
     /** Hovers mouse over an element */
     protected void hoverOverElement(By locator, WaitStrategy waitStrategy) {
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        new Actions(DriverManager.getDriver()).moveToElement(element).perform();
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
+            new Actions(DriverManager.getDriver()).moveToElement(element).perform();
+            step.succeeded();
+        } finally {
+            afterAction("hover", locator, step);
+        }
     }
 
     /** Select dropdown option by visible text */
     protected void selectDropdownByText(By locator, WaitStrategy waitStrategy, String text) {
-        new Select(ExplicitWaitFactory.performExplicitWait(waitStrategy, locator)).selectByVisibleText(text);
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            new Select(ExplicitWaitFactory.performExplicitWait(waitStrategy, locator)).selectByVisibleText(text);
+            step.succeeded();
+        } finally {
+            afterAction("selectDropdownByText", locator, step);
+        }
     }
 
     /** Select dropdown option by value attribute */
     protected void selectDropdownByValue(By locator, WaitStrategy waitStrategy, String value) {
-        new Select(ExplicitWaitFactory.performExplicitWait(waitStrategy, locator)).selectByValue(value);
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            new Select(ExplicitWaitFactory.performExplicitWait(waitStrategy, locator)).selectByValue(value);
+            step.succeeded();
+        } finally {
+            afterAction("selectDropdownByValue", locator, step);
+        }
     }
 
     /** Select dropdown option by index position */
     protected void selectDropdownByIndex(By locator, WaitStrategy waitStrategy, int index) {
-        new Select(ExplicitWaitFactory.performExplicitWait(waitStrategy, locator)).selectByIndex(index);
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            new Select(ExplicitWaitFactory.performExplicitWait(waitStrategy, locator)).selectByIndex(index);
+            step.succeeded();
+        } finally {
+            afterAction("selectDropdownByIndex", locator, step);
+        }
     }
 
     /** Scrolls to an element (brings into view) */
     protected void scrollToElement(By locator, WaitStrategy waitStrategy) {
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        new Actions(DriverManager.getDriver()).moveToElement(element).perform();
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
+            new Actions(DriverManager.getDriver()).moveToElement(element).perform();
+            step.succeeded();
+        } finally {
+            StepMetrics.end(step, getClass().getSimpleName(), "scrollToElement", locator);
+        }
     }
 
     /** Click using Actions class (useful for tricky JS elements) */
     protected void actionClick(By locator, WaitStrategy waitStrategy) {
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        new Actions(DriverManager.getDriver()).moveToElement(element).click().perform();
+        StepMetrics.Step step = StepMetrics.begin();
+        try {
+            WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
+            new Actions(DriverManager.getDriver()).moveToElement(element).click().perform();
+            step.succeeded();
+        } finally {
+            afterAction("actionClick", locator, step);
+        }
     }
 
-    /** Returns element without applying any wait */
+    /** Returns element without applying any explicit wait (the implicit wait still applies) */
     protected WebElement getElement(By locator) {
-        return DriverManager.getDriver().findElement(locator);
+        return ExplicitWaitFactory.performExplicitWait(WaitStrategy.NONE, locator);
     }
 
-    /** Returns list of elements without explicit wait */
+    /** Returns list of elements without explicit wait (the implicit wait still applies) */
     protected List<WebElement> getElements(By locator) {
-        return DriverManager.getDriver().findElements(locator);
+        if (DriverManager.getImplicitWait().isZero()) {
+            return DriverManager.getDriver().findElements(locator);
+        }
+        long start = System.nanoTime();
+        try {
+            return DriverManager.getDriver().findElements(locator);
+        } finally {
+            WaitTimeRecorder.recordImplicit(System.nanoTime() - start);
+        }
+    }
+
+    // ===== Probes: "exists now" vs "wait up to N" =====
+
+    /** True if the element is in the DOM right now. Never waits, whatever the implicit wait is. */
+    protected boolean isPresentNow(By locator) {
+        return findNow(locator).isPresent();
+    }
+
+    /** Returns the first matching element if it is in the DOM right now. Never waits. */
+    protected Optional<WebElement> findNow(By locator) {
+        List<WebElement> found = DriverManager.withoutImplicitWait(
+                () -> DriverManager.getDriver().findElements(locator));
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    /**
+     * Waits up to {@code timeout} for the element to be in the DOM.
+     * Returns empty instead of throwing if it never shows up.
+     */
+    protected Optional<WebElement> waitForPresence(By locator, Duration timeout) {
+        return waitUpTo(timeout, ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    /** True if the element becomes visible within {@code timeout}; never throws on timeout */
+    protected boolean isVisibleWithin(By locator, Duration timeout) {
+        return waitUpTo(timeout, ExpectedConditions.visibilityOfElementLocated(locator)).isPresent();
+    }
+
+    /**
+     * Waits up to {@code timeout} for at least one match, then returns all matches
+     * (an empty list if none appeared).
+     */
+    protected List<WebElement> waitForElements(By locator, Duration timeout) {
+        return waitUpTo(timeout, ExpectedConditions.presenceOfAllElementsLocatedBy(locator))
+                .orElse(Collections.emptyList());
     }
 
     /**
-     * Picks a date from a calendar UI by matching month/year
-     * - Keeps clicking 'next' until desired month/year is visible
+     * Runs the script until it returns something other than null (or false), up to {@code timeout}.
+     * Lets a page poll a whole browser-side check as one call per poll.
      */
-    protected void selectDateInCalendar(String expectedMonthYear, String expectedDay,
-                                        By allMonthHeadersLocator, By nextArrowLocator,
-                                        String dayXpathTemplate) {
-
-        boolean dateSelected = false;
-
-        // Loop until the target date is selected
-        while (!dateSelected) {
-            List<WebElement> monthHeaders = DriverManager.getDriver().findElements(allMonthHeadersLocator);
-
-            for (WebElement monthHeader : monthHeaders) {
-                if (monthHeader.getText().equalsIgnoreCase(expectedMonthYear)) {
-                    // Build dynamic day XPath and click
-                    String finalDayXpath = String.format(dayXpathTemplate, expectedDay);
-                    click(By.xpath(finalDayXpath), WaitStrategy.CLICKABLE);
-                    dateSelected = true;
-                    break;
+    protected Optional<Object> waitForScript(Duration timeout, String script, Object... args) {
+        return waitUpTo(timeout, driver -> {
+            Object result = ((JavascriptExecutor) driver).executeScript(script, args);
+            return Boolean.FALSE.equals(result) ? null : result;
+        });
+    }
+
+    /**
+     * Captures text, visibility and attributes of all the given elements in one browser call.
+     * Polls until every element is present and visible (like a VISIBLE wait on each), up to
+     * {@code timeout}; after that the snapshot is taken as-is and missing elements fail when read.
+     */
+    protected PageSnapshot captureSnapshot(Duration timeout, By... locators) {
+        List<By> declared = List.of(locators);
+        List<List<Object>> args = new ArrayList<>();
+        for (By locator : declared) {
+            args.add(List.of(JsLocator.args(locator)));
+        }
+        Object result = waitForScript(timeout, PageSnapshot.CAPTURE_JS, args, true)
+                .orElseGet(() -> ((JavascriptExecutor) DriverManager.getDriver())
+                        .executeScript(PageSnapshot.CAPTURE_JS, args, false));
+        return PageSnapshot.fromScript(declared, (List<?>) result);
+    }
+
+    /** Explicit wait with its own timeout, implicit wait suspended; empty result on timeout */
+    private <T> Optional<T> waitUpTo(Duration timeout, ExpectedCondition<T> condition) {
+        long start = System.nanoTime();
+        try {
+            return DriverManager.withoutImplicitWait(() -> {
+                try {
+                    return Optional.of(new WebDriverWait(DriverManager.getDriver(), timeout).until(condition));
+                } catch (TimeoutException e) {
+                    return Optional.<T>empty();
                 }
+            });
+        } finally {
+            WaitTimeRecorder.recordExplicit(System.nanoTime() - start);
+        }
+    }
+
+    // ===== Option lists: one script per lookup instead of one getText() per element =====
+
+    /**
+     * Waits up to {@code timeout} for the options to render, then returns all their texts
+     * (trimmed, whitespace collapsed) from a single script call. Empty list if none appeared.
+     */
+    protected List<String> getOptionTexts(By optionsLocator, Duration timeout) {
+        Object[] args = JsLocator.args(optionsLocator);
+        Optional<List<Object>> texts = waitUpTo(timeout, driver -> castList(
+                ((JavascriptExecutor) driver).executeScript(OPTION_TEXTS_JS, args)));
+        List<String> result = new ArrayList<>();
+        texts.ifPresent(list -> list.forEach(text -> result.add(String.valueOf(text))));
+        return result;
+    }
+
+    /**
+     * Clicks the option whose text equals {@code text} (case-insensitive, whitespace-insensitive).
+     * Matching, scrolling and clicking happen in the browser in one call; the call is repeated
+     * until the option shows up or {@code timeout} runs out.
+     *
+     * @return true if an option was clicked
+     */
+    protected boolean clickOptionByText(By optionsLocator, String text, Duration timeout) {
+        StepMetrics.Step step = StepMetrics.begin();
+        Object[] locator = JsLocator.args(optionsLocator);
+        Object[] args = {locator[0], locator[1], text};
+        try {
+            boolean clicked = waitUpTo(timeout,
+                    driver -> (String) ((JavascriptExecutor) driver).executeScript(CLICK_OPTION_JS, args)).isPresent();
+            if (clicked) {
+                step.succeeded();
+            }
+            return clicked;
+        } finally {
+            afterAction("clickOptionByText", optionsLocator, step);
+        }
+    }
+
+    /**
+     * Like {@link #clickOptionByText(By, String, Duration)}, but instead of polling, the browser re-checks
+     * whenever the DOM changes - for auto-suggest lists that render right after typing.
+     * One async script call covers the whole wait.
+     *
+     * @return true if an option was clicked
+     */
+    protected boolean clickOptionByTextOnMutation(By optionsLocator, String text, Duration timeout) {
+        StepMetrics.Step step = StepMetrics.begin();
+        Object[] locator = JsLocator.args(optionsLocator);
+        long start = System.nanoTime();
+        try {
+            boolean clicked = ((JavascriptExecutor) DriverManager.getDriver()).executeAsyncScript(
+                    CLICK_OPTION_ON_MUTATION_JS, locator[0], locator[1], text, timeout.toMillis()) != null;
+            if (clicked) {
+                step.succeeded();
             }
+            return clicked;
+        } catch (ScriptTimeoutException e) {
+            return false;
+        } finally {
+            WaitTimeRecorder.recordExplicit(System.nanoTime() - start);
+            afterAction("clickOptionByText", optionsLocator, step);
+        }
+    }
+
+    /**
+     * Records the step's latency, failed or not (see {@link StepMetrics}), and samples evidence of a
+     * successful action (see {@link EvidenceBuffer}; a no-op when it is off).
+     * Called from a finally block, so it must not throw over the step's own exception.
+     */
+    private void afterAction(String action, By locator, StepMetrics.Step step) {
+        StepMetrics.end(step, getClass().getSimpleName(), action, locator);
+        if (!step.isSucceeded() || EvidenceBuffer.getCapacity() <= 0) {
+            return;
+        }
+        Object[] target = null;
+        if (locator instanceof By.Remotable) {
+            target = JsLocator.args(locator);
+        }
+        EvidenceBuffer.afterAction(getClass().getSimpleName(), action, target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> castList(Object scriptResult) {
+        return (List<Object>) scriptResult;
+    }
+
+    /**
+     * Picks a date from a calendar UI by matching month/year.
+     * - Works out how many months ahead the target is from the captions already shown
+     * - Clicks 'next' that many times, in as few browser calls as the script timeout allows
+     *   (each click waits for the captions to change)
+     * - Clicks the day
+     *
+     * @param expectedMonthYear caption of the target month, e.g. "September 2025"
+     * @return number of 'next' clicks it took (0 if the month was already visible)
+     */
+    protected int selectDateInCalendar(String expectedMonthYear, String expectedDay,
+                                       By allMonthHeadersLocator, By nextArrowLocator,
+                                       String dayXpathTemplate) {
+        Optional<YearMonth> target = parseMonthYear(expectedMonthYear);
+
+        // All visible month captions in one call
+        List<String> monthHeaders = getOptionTexts(allMonthHeadersLocator,
+                Duration.ofSeconds(FrameworkConstants.getExplicitWait()));
+        int steps = 0;
+        int calls = 1;
 
-            // If month not found, click next arrow
-            if (!dateSelected) {
-                click(nextArrowLocator, WaitStrategy.CLICKABLE);
+        while (monthHeaders.stream().noneMatch(expectedMonthYear::equalsIgnoreCase)) {
+            int clicks = monthsToAdvance(target, monthHeaders);
+            if (steps + clicks > MAX_CALENDAR_STEPS) {
+                throw new RuntimeException("❌ Month " + expectedMonthYear + " not reached after "
+                        + steps + " calendar steps (showing " + monthHeaders + ")");
             }
+            clicks = Math.min(clicks, maxCalendarClicksPerCall());
+            Map<String, Object> result = advanceCalendar(allMonthHeadersLocator, nextArrowLocator, clicks);
+            calls++;
+            int made = ((Number) result.get("clicks")).intValue();
+            if (made == 0) {
+                throw new RuntimeException("❌ Calendar 'next' arrow not found while looking for " + expectedMonthYear);
+            }
+            steps += made;
+            monthHeaders = new ArrayList<>();
+            for (Object caption : (List<?>) result.get("headers")) {
+                monthHeaders.add(String.valueOf(caption));
+            }
+        }
+
+        // Build dynamic day XPath and click
+        String finalDayXpath = String.format(dayXpathTemplate, expectedDay);
+        click(By.xpath(finalDayXpath), WaitStrategy.CLICKABLE);
+
+        ExtentLogger.info("Calendar: " + expectedMonthYear + " reached in " + steps
+                + " navigation step(s), " + calls + " caption lookup(s)");
+        return steps;
+    }
+
+    /**
+     * 'next' clicks one async script may make: each can wait {@link #CALENDAR_SETTLE_MS}, and the whole
+     * batch (plus one settle of headroom) has to finish within the script timeout.
+     */
+    private static int maxCalendarClicksPerCall() {
+        return (int) Math.max(1, DriverManager.getScriptTimeout().toMillis() / CALENDAR_SETTLE_MS - 1);
+    }
+
+    /**
+     * Clicks the arrow up to {@code clicks} times in one async script, waiting after each click
+     * for the captions to change. Returns {clicks: made, headers: [captions now shown]}.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> advanceCalendar(By headersLocator, By arrowLocator, int clicks) {
+        Object[] headers = JsLocator.args(headersLocator);
+        Object[] arrow = JsLocator.args(arrowLocator);
+        return (Map<String, Object>) ((JavascriptExecutor) DriverManager.getDriver()).executeAsyncScript(
+                ADVANCE_CALENDAR_JS, headers[0], headers[1], arrow[0], arrow[1], clicks, CALENDAR_SETTLE_MS);
+    }
+
+    /**
+     * Months to move so the target becomes the last caption shown. Unknown caption formats
+     * fall back to one step at a time.
+     */
+    private static int monthsToAdvance(Optional<YearMonth> target, List<String> monthHeaders) {
+        Optional<YearMonth> lastShown = monthHeaders.stream()
+                .map(BasePage::parseMonthYear)
+                .flatMap(Optional::stream)
+                .max(Comparator.naturalOrder());
+        if (target.isEmpty() || lastShown.isEmpty()) {
+            return 1;
+        }
+        long months = ChronoUnit.MONTHS.between(lastShown.get(), target.get());
+        if (months <= 0) {
+            throw new RuntimeException("❌ Month " + target.get() + " is before the months shown " + monthHeaders
+                    + " - the calendar only navigates forward");
+        }
+        return (int) months;
+    }
+
+    /** Parses captions such as "September 2025" / "september 2025"; empty if the format differs */
+    private static Optional<YearMonth> parseMonthYear(String caption) {
+        try {
+            return Optional.of(YearMonth.parse(caption.trim(), MONTH_YEAR));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
         }
     }
 }
@@ -1,11 +1,15 @@
 package pages;
 
+import java.time.Duration;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 
+import constants.FrameworkConstants;
 import driver.DriverManager;
+import driver.OverlayGuard;
 import enums.WaitStrategy;
 import factories.ExplicitWaitFactory;
 
@@ -19,17 +23,28 @@ public final class BusBookingPage extends BasePage {
     private static final By SEARCH_BUTTON = By.xpath("//button[text()='Search']");
     private static final By LOGIN_POPUP_CLOSE = By.cssSelector("span.commonModal__close");
     private static final By SECONDARY_POPUP_CLOSE = By.xpath("//span[@data-cy='travel-card-close']");
-    private static final String EXACT_CITY_XPATH ="//span[@class='sr_city blackText' and text()='%s']";
+    private static final By CITY_SUGGESTIONS = By.xpath("//span[@class='sr_city blackText']");
+
+    // How long the login popup may take to show up after the homepage loads
+    private static final Duration POPUP_GRACE_PERIOD = Duration.ofSeconds(3);
 
     public BusBookingPage() {}
 
     /**
      * Closes any initial popups like login prompt or travel card popup.
      * Added check so we don't throw unnecessary exceptions.
+     * The login popup gets a short grace period to appear; once the page has settled the
+     * secondary popup is only probed, so absent popups cost milliseconds, not the implicit wait.
      */
     public BusBookingPage closeInitialPopups() {
+        // The browser-side guard closes these as soon as they render - nothing to probe for
+        if (OverlayGuard.isEnabled()) {
+            System.out.println("ℹ️ Popups are handled by the overlay guard");
+            return this;
+        }
+
         // Try closing login popup if present
-        if (getElements(LOGIN_POPUP_CLOSE).size() > 0) {
+        if (waitForPresence(LOGIN_POPUP_CLOSE, POPUP_GRACE_PERIOD).isPresent()) {
             click(LOGIN_POPUP_CLOSE, WaitStrategy.CLICKABLE);
             System.out.println("✅ Login popup closed");
         } else {
@@ -37,7 +52,7 @@ public final class BusBookingPage extends BasePage {
         }
 
         // Try closing secondary popup if present
-        if (getElements(SECONDARY_POPUP_CLOSE).size() > 0) {
+        if (isPresentNow(SECONDARY_POPUP_CLOSE)) {
             click(SECONDARY_POPUP_CLOSE, WaitStrategy.CLICKABLE);
             System.out.println("✅ Secondary popup closed");
         } else {
@@ -104,23 +119,29 @@ public final class BusBookingPage extends BasePage {
     }
 
     /**
-     * Clicks Search button and waits for results page's heading.
+     * Clicks Search button and waits for the results page to be ready
+     * (heading rendered and the listing requests finished).
      */
     public BusResultsPage clickSearch() {
         click(SEARCH_BUTTON, WaitStrategy.CLICKABLE);
         By resultHeading = By.xpath("//h1[@data-testid='listing-title']");
-        ExplicitWaitFactory.performExplicitWait(WaitStrategy.VISIBLE, resultHeading);
+        ExplicitWaitFactory.performExplicitWait(WaitStrategy.READY, resultHeading);
         return new BusResultsPage();
     }
 
-    /** Clicks on the exact matching city in auto-suggestions */
+    /**
+     * Clicks on the exact matching city in auto-suggestions.
+     * Matched and clicked in the browser, so an overlapping header can't intercept the click.
+     * In fast input mode the list is awaited through DOM mutations instead of polling.
+     */
     private void clickExactCitySuggestion(String fullCityText) {
-        By exactCity = By.xpath(String.format(EXACT_CITY_XPATH, fullCityText));
-        try {
-            click(exactCity, WaitStrategy.CLICKABLE);
-        } catch (ElementClickInterceptedException e) {
-            WebElement el = DriverManager.getDriver().findElement(exactCity);
-            ((JavascriptExecutor) DriverManager.getDriver()).executeScript("arguments[0].click();", el);
+        Duration timeout = Duration.ofSeconds(FrameworkConstants.getExplicitWait());
+        boolean clicked = isFastInput()
+                ? clickOptionByTextOnMutation(CITY_SUGGESTIONS, fullCityText, timeout) // react to the list rendering
+                : clickOptionByText(CITY_SUGGESTIONS, fullCityText, timeout);
+        if (!clicked) {
+            throw new RuntimeException("City not found in suggestions: " + fullCityText
+                    + " (suggestions: " + getOptionTexts(CITY_SUGGESTIONS, Duration.ZERO) + ")");
         }
     }
 }
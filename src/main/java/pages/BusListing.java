@@ -0,0 +1,194 @@
+package pages;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One bus card from the search results, parsed from a single page snapshot
+ * (see {@link BusResultsPage#readListings()}). Immutable.
+ *
+ * <p>Values the card doesn't show are -1 (numbers) or null (times, duration, texts).
+ */
+public final class BusListing {
+
+    private static final Pattern TIME = Pattern.compile("\\b([01]?\\d|2[0-3]):([0-5]\\d)\\b");
+    private static final Pattern DURATION = Pattern.compile("(\\d+)\\s*h(?:rs?)?\\s*(?:(\\d+)\\s*m(?:ins?)?)?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern PRICE = Pattern.compile("\\d[\\d,]*");
+    private static final Pattern SEATS_LEFT = Pattern.compile("(\\d+)\\s+seats?\\s+(?:left|available)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern RATING = Pattern.compile("\\d(?:\\.\\d+)?");
+    private static final Pattern BUS_TYPE = Pattern.compile("\\b(?:non[\\s-]?a/?c|a/?c)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NON_AC = Pattern.compile("\\bnon[\\s-]?a/?c\\b", Pattern.CASE_INSENSITIVE);
+
+    // ===== Ready-made orderings =====
+    public static final Comparator<BusListing> BY_PRICE = Comparator.comparingInt(b -> unknownLast(b.price));
+    public static final Comparator<BusListing> BY_DEPARTURE =
+            Comparator.comparing(BusListing::getDeparture, Comparator.nullsLast(Comparator.naturalOrder()));
+    public static final Comparator<BusListing> BY_DURATION =
+            Comparator.comparing(BusListing::getDuration, Comparator.nullsLast(Comparator.naturalOrder()));
+    public static final Comparator<BusListing> BY_RATING_DESC = Comparator.comparingDouble(BusListing::getRating).reversed();
+
+    private final int position;
+    private final String operator;
+    private final String busType;
+    private final LocalTime departure;
+    private final LocalTime arrival;
+    private final Duration duration;
+    private final int price;
+    private final int seatsLeft;
+    private final double rating;
+
+    private BusListing(int position, String operator, String busType, LocalTime departure, LocalTime arrival,
+                       Duration duration, int price, int seatsLeft, double rating) {
+        this.position = position;
+        this.operator = operator;
+        this.busType = busType;
+        this.departure = departure;
+        this.arrival = arrival;
+        this.duration = duration;
+        this.price = price;
+        this.seatsLeft = seatsLeft;
+        this.rating = rating;
+    }
+
+    /**
+     * Parses one card.
+     *
+     * @param position   1-based position of the card on the page
+     * @param cardText   the card's visible text
+     * @param operator   text of the operator element, or null to use the card's first line
+     * @param ratingText text of the rating element, or null
+     * @param fareText   text of the card's fare element, or null. The fare is never guessed from the card
+     *                   text, where promos ("₹150 off", cashback) carry amounts too
+     */
+    static BusListing parse(int position, String cardText, String operator, String ratingText, String fareText) {
+        String[] lines = cardText.split("\\R");
+        String firstLine = null;
+        String busType = null;
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (firstLine == null) {
+                firstLine = trimmed;
+            }
+            if (busType == null && BUS_TYPE.matcher(trimmed).find()) {
+                busType = trimmed;
+            }
+        }
+
+        LocalTime departure = null;
+        LocalTime arrival = null;
+        Matcher time = TIME.matcher(cardText);
+        if (time.find()) {
+            departure = LocalTime.of(Integer.parseInt(time.group(1)), Integer.parseInt(time.group(2)));
+            if (time.find()) {
+                arrival = LocalTime.of(Integer.parseInt(time.group(1)), Integer.parseInt(time.group(2)));
+            }
+        }
+
+        Duration duration = null;
+        Matcher hours = DURATION.matcher(cardText);
+        if (hours.find()) {
+            long minutes = Long.parseLong(hours.group(1)) * 60
+                    + (hours.group(2) == null ? 0 : Long.parseLong(hours.group(2)));
+            duration = Duration.ofMinutes(minutes);
+        }
+
+        int price = -1;
+        if (fareText != null) {
+            Matcher amount = PRICE.matcher(fareText);
+            if (amount.find()) {
+                price = Integer.parseInt(amount.group().replace(",", ""));
+            }
+        }
+
+        Matcher seats = SEATS_LEFT.matcher(cardText);
+        int seatsLeft = seats.find() ? Integer.parseInt(seats.group(1)) : -1;
+
+        double rating = -1;
+        if (ratingText != null) {
+            Matcher value = RATING.matcher(ratingText);
+            if (value.find()) {
+                rating = Double.parseDouble(value.group());
+            }
+        }
+
+        String name = operator == null || operator.isBlank() ? firstLine : operator.trim();
+        return new BusListing(position, name, busType, departure, arrival, duration, price, seatsLeft, rating);
+    }
+
+    /** 1-based position of the card on the results page; see {@link BusResultsPage#clickSelectSeats(BusListing)} */
+    public int getPosition() {
+        return position;
+    }
+
+    public String getOperator() {
+        return operator;
+    }
+
+    /** Bus type line as shown, e.g. "A/C Sleeper (2+1)"; null if not found */
+    public String getBusType() {
+        return busType;
+    }
+
+    public LocalTime getDeparture() {
+        return departure;
+    }
+
+    public LocalTime getArrival() {
+        return arrival;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /** Fare in rupees, -1 if not shown */
+    public int getPrice() {
+        return price;
+    }
+
+    /** -1 if not shown */
+    public int getSeatsLeft() {
+        return seatsLeft;
+    }
+
+    /** -1 if not rated */
+    public double getRating() {
+        return rating;
+    }
+
+    /** True for A/C buses (not "Non A/C") */
+    public boolean isAc() {
+        return busType != null && !NON_AC.matcher(busType).find();
+    }
+
+    public boolean isSleeper() {
+        return busType != null && busType.toLowerCase().contains("sleeper");
+    }
+
+    public boolean isSeater() {
+        return busType != null && busType.toLowerCase().contains("seater");
+    }
+
+    /** True if the bus leaves at or after the given time (false when the departure is unknown) */
+    public boolean departsAtOrAfter(LocalTime time) {
+        return departure != null && !departure.isBefore(time);
+    }
+
+    private static int unknownLast(int value) {
+        return value < 0 ? Integer.MAX_VALUE : value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s [%s] %s-%s, ₹%d, %d seats left, rating %.1f",
+                position, operator, busType, departure, arrival, price, seatsLeft, rating);
+    }
+}
@@ -0,0 +1,75 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * In-memory, immutable view over the bus cards of one results page.
+ * Filtering and sorting never touch the browser; each call returns a new index.
+ *
+ * <pre>
+ * Optional&lt;BusListing&gt; bus = resultsPage.readListings()
+ *         .filter(BusListing::isAc)
+ *         .filter(BusListing::isSleeper)
+ *         .filter(b -&gt; b.departsAtOrAfter(LocalTime.of(21, 0)))
+ *         .cheapest();
+ * </pre>
+ */
+public final class BusListingIndex {
+
+    private final List<BusListing> listings;
+
+    BusListingIndex(List<BusListing> listings) {
+        this.listings = Collections.unmodifiableList(listings);
+    }
+
+    /** Listings matching the predicate, order kept */
+    public BusListingIndex filter(Predicate<BusListing> predicate) {
+        List<BusListing> matching = new ArrayList<>();
+        for (BusListing listing : listings) {
+            if (predicate.test(listing)) {
+                matching.add(listing);
+            }
+        }
+        return new BusListingIndex(matching);
+    }
+
+    /** Listings in the given order (see the BY_* comparators on {@link BusListing}) */
+    public BusListingIndex sortedBy(Comparator<BusListing> order) {
+        List<BusListing> sorted = new ArrayList<>(listings);
+        sorted.sort(order);
+        return new BusListingIndex(sorted);
+    }
+
+    /** Lowest fare among the listings (listings without a fare are ignored) */
+    public Optional<BusListing> cheapest() {
+        return listings.stream().filter(b -> b.getPrice() >= 0).min(BusListing.BY_PRICE);
+    }
+
+    /** First listing in the current order */
+    public Optional<BusListing> first() {
+        return listings.isEmpty() ? Optional.empty() : Optional.of(listings.get(0));
+    }
+
+    /** Read-only list of the listings in the current order */
+    public List<BusListing> getListings() {
+        return listings;
+    }
+
+    public int size() {
+        return listings.size();
+    }
+
+    public boolean isEmpty() {
+        return listings.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BusListingIndex[" + listings.size() + " buses]";
+    }
+}
@@ -1,10 +1,18 @@
 package pages;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
+import constants.FrameworkConstants;
 import driver.DriverManager;
+import enums.SeatSelection;
 import enums.SeatType;
 import enums.WaitStrategy;
 import factories.ExplicitWaitFactory;
@@ -18,10 +26,43 @@ public class BusResultsPage extends BasePage {
     // ===== Locators =====
     private static final By BUS_TITLE_HEADING = By.xpath("//h1[@data-testid='listing-title']");
     private static final By BUSES_COUNT = By.xpath("//p[contains(text(),'buses found')]");
-    private static final By SEATER_AVAILABLE = By.xpath("//div[contains(@class,'Tooltip_tooltipWrapper')]/following::img[contains(@src, 'Seater_Available.png')]");
-    private static final By SLEEPER_AVAILABLE = By.xpath("//div[contains(@class,'Tooltip_tooltipWrapper')]/following::img[contains(@src, 'Sleeper_Available.png')]");
     private static final By CONTINUE_BUTTON = By.xpath("//button[contains(text(),'Continue')]");
 
+    /*
+     * Text of every bus card (plus its operator/rating/fare elements when marked up), or null while none
+     * rendered. The fare is the first price element holding exactly one amount that is neither struck
+     * through (original price) nor a promo ("₹150 off", cashback, save ₹X).
+     */
+    private static final String LISTINGS_JS =
+            "var cards = document.querySelectorAll(\"[data-testid='bus-card']\");" +
+            "if (!cards.length) { return null; }" +
+            "return Array.prototype.map.call(cards, function (card) {" +
+            "  function text(selector) {" +
+            "    var el = card.querySelector(selector);" +
+            "    return el ? (el.innerText || el.textContent || '').trim() : null;" +
+            "  }" +
+            "  function fare() {" +
+            "    var els = card.querySelectorAll(\"[data-testid*='price' i], [data-testid*='fare' i]," +
+            "        [class*='price' i], [class*='fare' i]\");" +
+            "    for (var i = 0; i < els.length; i++) {" +
+            "      var t = (els[i].innerText || els[i].textContent || '').trim();" +
+            "      if ((t.match(/\\d[\\d,]*/g) || []).length !== 1 || /\\boff\\b|cashback|save/i.test(t)) { continue; }" +
+            "      if (els[i].closest(\"s, del, strike, [class*='strike' i], [class*='slashed' i]\")) { continue; }" +
+            "      return t;" +
+            "    }" +
+            "    return null;" +
+            "  }" +
+            "  return {" +
+            "    text: card.innerText || card.textContent || ''," +
+            "    fare: fare()," +
+            "    operator: text(\"[data-testid*='operator' i], [class*='operator' i], [class*='travelsName' i]\")," +
+            "    rating: text(\"[data-testid*='rating' i], [class*='rating' i]\")" +
+            "  };" +
+            "});";
+
+    // Continue button as returned by waitUntilContinueButtonIsEnabled, so the click doesn't wait again
+    private WebElement settledContinueButton;
+
     /** Gets and returns bus route heading text from results page */
     public String getBusRouteTitle() {
         return getText(BUS_TITLE_HEADING, WaitStrategy.VISIBLE);
@@ -32,6 +73,33 @@ public class BusResultsPage extends BasePage {
     	return getText(BUSES_COUNT, WaitStrategy.VISIBLE);
     }
 
+    /**
+     * Reads every bus card on the page in one script call into an in-memory index that can be
+     * filtered and sorted without further round-trips.
+     */
+    public BusListingIndex readListings() {
+        List<?> cards = (List<?>) waitForScript(Duration.ofSeconds(FrameworkConstants.getExplicitWait()), LISTINGS_JS)
+                .orElseThrow(() -> new RuntimeException("❌ No bus cards found on the results page"));
+        List<BusListing> listings = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            Map<?, ?> card = (Map<?, ?>) cards.get(i);
+            listings.add(BusListing.parse(i + 1, String.valueOf(card.get("text")),
+                    (String) card.get("operator"), (String) card.get("rating"), (String) card.get("fare")));
+        }
+        return new BusListingIndex(listings);
+    }
+
+    /**
+     * Clicks "Select Seats" inside the card of a bus picked from {@link #readListings()}. The position is
+     * the card's, so a card without the button fails here instead of clicking the next bus's button.
+     */
+    public BusResultsPage clickSelectSeats(BusListing listing) {
+        String xpath = String.format("(//*[@data-testid='bus-card'])[%d]//button[contains(text(),'Select Seats')]",
+                listing.getPosition());
+        click(By.xpath(xpath), WaitStrategy.CLICKABLE);
+        return this;
+    }
+
     /** Clicks "Select Seats" button for the bus at the given result index */
     public BusResultsPage clickSelectSeatsButtonByIndex(int index) {
         String xpath = String.format("(//div[@data-testid='bus-card']//button[contains(text(),'Select Seats')])[%d]", index);
@@ -39,21 +107,49 @@ public class BusResultsPage extends BasePage {
         return this;
     }
 
-    /** Selects given number of available seats based on seat type (SEATER / SLEEPER) */
+    /** Selects given number of available seats based on seat type (SEATER / SLEEPER), in page order */
     public BusResultsPage selectAvailableSeats(SeatType seatType, int count) {
-        // Choose locator based on seat type
-        List<WebElement> seats = (seatType == SeatType.SEATER)
-                ? getElements(SEATER_AVAILABLE)
-                : getElements(SLEEPER_AVAILABLE);
-
-        // Select up to 'count' number of seats, but not more than available
-        int available = Math.min(count, seats.size());
-        for (int i = 0; i < available; i++) {
-            seats.get(i).click();
+        return selectSeats(seatType, count, SeatSelection.FIRST_AVAILABLE);
+    }
+
+    /**
+     * Reads the seat map once, picks seats with the given strategy (adjacent, window, cheapest...)
+     * and clicks only those. Selects fewer seats if the map can't satisfy the request.
+     */
+    public BusResultsPage selectSeats(SeatType seatType, int count, SeatSelection selection) {
+        SeatMap seatMap = readSeatMap();
+        int[] picked = seatMap.pick(seatType, count, selection);
+        for (int seat : picked) {
+            int deck = seatMap.getDeck(seat);
+            int row = seatMap.getRow(seat);
+            int column = seatMap.getColumn(seat);
+            try {
+                seatMap.element(seat).click();
+            } catch (StaleElementReferenceException e) {
+                // The map re-rendered after the previous click: re-read it and click the same position
+                seatMap = readSeatMap();
+                int same = seatMap.find(deck, row, column);
+                if (same < 0) {
+                    throw new RuntimeException("❌ Seat at deck " + deck + ", row " + row + ", column " + column
+                            + " disappeared from the seat map", e);
+                }
+                seatMap.element(same).click();
+            }
         }
         return this;
     }
 
+    /**
+     * Reads the whole seat map (the seat map renders after 'Select Seats' is clicked) in one script call,
+     * polling until at least one seat is drawn.
+     */
+    @SuppressWarnings("unchecked")
+    public SeatMap readSeatMap() {
+        Object snapshot = waitForScript(Duration.ofSeconds(FrameworkConstants.getExplicitWait()), SeatMap.SNAPSHOT_JS)
+                .orElseThrow(() -> new RuntimeException("❌ Seat map did not render"));
+        return SeatMap.fromSnapshot((Map<String, Object>) snapshot);
+    }
+
     /** Chooses a boarding point from the list using its index position */
     public BusResultsPage selectBoardingPointByIndex(int index) {
         String xpath = String.format(
@@ -74,56 +170,40 @@ public class BusResultsPage extends BasePage {
     }
 
     /**
-     * Checks if 'Continue' button is enabled:
-     * - Scrolls it into view
-     * - Checks class and disabled attributes
+     * Checks if 'Continue' button is enabled: waits (one script per poll) until it is
+     * in view, not disabled by class/attribute and done animating.
      */
     public boolean waitUntilContinueButtonIsEnabled() {
         try {
-            WebElement button = ExplicitWaitFactory.performExplicitWait(WaitStrategy.PRESENCE, CONTINUE_BUTTON);
-
-            // Scroll so the button is visible
-            ((JavascriptExecutor) DriverManager.getDriver()).executeScript("arguments[0].scrollIntoView(true);", button);
-
-            // Check if button is NOT marked disabled and is enabled
-            String classAttr = button.getAttribute("class");
-            String disabledAttr = button.getAttribute("disabled");
-
-            return !((classAttr != null && classAttr.contains("Button_disabled__")) || (disabledAttr != null))
-                    && button.isEnabled();
+            settledContinueButton = ExplicitWaitFactory.performExplicitWait(WaitStrategy.SETTLED, CONTINUE_BUTTON);
+            return true;
         } catch (Exception e) {
-            return false; // If not found or fails, treat it as disabled
+            return false; // If not found or never enabled, treat it as disabled
         }
     }
 
     /**
-     * Clicks the Continue button if enabled.
+     * Clicks the Continue button once it is enabled and settled (reusing the element found by
+     * {@link #waitUntilContinueButtonIsEnabled()} instead of waiting again).
      * Uses JS click as fallback if intercepted.
      */
     public void clickContinueButton() {
         try {
-            WebElement button = ExplicitWaitFactory.performExplicitWait(WaitStrategy.CLICKABLE, CONTINUE_BUTTON);
-
-            // Scroll to bring button to center view
-            ((JavascriptExecutor) DriverManager.getDriver()).executeScript("arguments[0].scrollIntoView({block:'center'});", button);
-
-            Thread.sleep(1000); // wait for UI enablement animations
-
-            String classAttr = button.getAttribute("class");
-            String disabledAttr = button.getAttribute("disabled");
-
-            // Validate enabled state before clicking
-            if (!((classAttr != null && classAttr.contains("Button_disabled__")) || disabledAttr != null)
-                    && button.isEnabled()) {
-                try {
-                    button.click();
-                } catch (org.openqa.selenium.ElementClickInterceptedException e) {
-                    // JS click fallback if overlay intercepts
-                    ((JavascriptExecutor) DriverManager.getDriver()).executeScript("arguments[0].click();", button);
-                }
-            } else {
-                throw new RuntimeException("Continue button is not enabled, cannot click.");
+            WebElement button = settledContinueButton != null
+                    ? settledContinueButton
+                    : ExplicitWaitFactory.performExplicitWait(WaitStrategy.SETTLED, CONTINUE_BUTTON);
+            settledContinueButton = null;
+            try {
+                button.click();
+            } catch (StaleElementReferenceException e) {
+                // Re-rendered since the earlier wait - wait for the new one
+                ExplicitWaitFactory.performExplicitWait(WaitStrategy.SETTLED, CONTINUE_BUTTON).click();
+            } catch (ElementClickInterceptedException e) {
+                // JS click fallback if overlay intercepts
+                ((JavascriptExecutor) DriverManager.getDriver()).executeScript("arguments[0].click();", button);
             }
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Continue button is not enabled, cannot click.", e);
         } catch (Exception e) {
             throw new RuntimeException("Failed to click Continue button: " + e.getMessage(), e);
         }
@@ -1,9 +1,7 @@
 package pages;
 
-import java.util.List;
+import java.time.Duration;
 import org.openqa.selenium.By;
-import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.WebElement;
 import enums.WaitStrategy;
 
 /**
@@ -27,6 +25,9 @@ public final class CompleteBookingPage extends BasePage {
     private static final By CONTINUE_BTN = By.xpath("//span[.='Continue']");
     private static final By PLEASE_WAIT_POPUP = By.xpath("//div[contains(text(),'Please wait')]");
 
+    // Wait for elements that may legitimately be absent (optional radio, dropdown contents)
+    private static final Duration OPTIONAL_ELEMENT_WAIT = Duration.ofSeconds(5);
+
     /** Gets the header text to confirm user is on Complete Booking page */
     public String verifyCompleteBookingHeader() {
         return getText(COMPLETE_BOOKING_HEADER, WaitStrategy.VISIBLE);
@@ -49,14 +50,33 @@ public final class CompleteBookingPage extends BasePage {
      * @return the current CompleteBookingPage instance for method chaining.
      */
     public CompleteBookingPage selectGender(String gender) {
+        click(genderTab(gender), WaitStrategy.VISIBLE);
+        return this;
+    }
+
+    /**
+     * Fills name, age, gender, email and mobile number in one browser call
+     * (fields the batch couldn't set are retried one by one, see {@link BasePage#fillForm(FormFill)}).
+     */
+    public CompleteBookingPage fillPassengerDetails(String name, String age, String gender,
+                                                    String emailId, String mobileNumber) {
+        fillForm(FormFill.create()
+                .type("Name", TRAVEL_DETAILS_NAME, name)
+                .type("Age", TRAVEL_DETAILS_AGE, age)
+                .click("Gender", genderTab(gender))
+                .type("Email", EMAIL_ID, emailId)
+                .type("Mobile number", MOBILE_NUMBER, mobileNumber));
+        return this;
+    }
+
+    /** Gender tab for "Male" or "Female" (case insensitive) */
+    private static By genderTab(String gender) {
         if ("male".equalsIgnoreCase(gender)) {
-            click(GENDER_MALE, WaitStrategy.VISIBLE);
+            return GENDER_MALE;
         } else if ("female".equalsIgnoreCase(gender)) {
-            click(GENDER_FEMALE, WaitStrategy.VISIBLE);
-        } else {
-            throw new IllegalArgumentException("Gender must be 'Male' or 'Female'");
+            return GENDER_FEMALE;
         }
-        return this;
+        throw new IllegalArgumentException("Gender must be 'Male' or 'Female'");
     }
 
     /** Enters contact email address */
@@ -83,27 +103,19 @@ public final class CompleteBookingPage extends BasePage {
      */
     public CompleteBookingPage selectState(String stateName) {
         click(SELECT_STATE, WaitStrategy.CLICKABLE); // open dropdown
-        List<WebElement> options = getElements(STATE_LIST); // get all state options
-        boolean found = false;
-        for (WebElement option : options) {
-            if (option.getText().trim().equalsIgnoreCase(stateName)) {
-                option.click();
-                found = true;
-                break;
-            }
+        // Match and click in the browser - one call instead of a getText() per state
+        if (!clickOptionByText(STATE_LIST, stateName, OPTIONAL_ELEMENT_WAIT)) {
+            throw new RuntimeException("State not found in dropdown: " + stateName
+                    + " (options: " + getOptionTexts(STATE_LIST, Duration.ZERO) + ")");
         }
-        if (!found) throw new RuntimeException("State not found in dropdown: " + stateName);
         return this;
     }
 
     /** Clicks the Continue button to proceed to payment */
     public CompleteBookingPage clickContinueBtn() {
-        try {
-            if (isDisplayed(DONT_NEED_RADIO, WaitStrategy.VISIBLE)) {
-                click(DONT_NEED_RADIO, WaitStrategy.CLICKABLE);
-            }
-        } catch (TimeoutException e) {
-            // DONT_NEED_RADIO not present, proceed without clicking
+        // Optional radio: give it a short window instead of the full explicit wait
+        if (isVisibleWithin(DONT_NEED_RADIO, OPTIONAL_ELEMENT_WAIT)) {
+            click(DONT_NEED_RADIO, WaitStrategy.CLICKABLE);
         }
         click(CONTINUE_BTN, WaitStrategy.CLICKABLE);
         return this;
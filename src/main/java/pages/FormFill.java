@@ -0,0 +1,95 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+
+import utils.JsLocator;
+
+/**
+ * Declarative description of a form: which field gets which value, and what gets clicked.
+ * Pages hand it to {@link BasePage#fillForm(FormFill)}, which fills and verifies the whole form
+ * in one browser call instead of a wait + clear + sendKeys per field.
+ *
+ * <pre>
+ * fillForm(FormFill.create()
+ *         .type("Name", NAME_INPUT, name)
+ *         .click("Gender", GENDER_MALE));
+ * </pre>
+ */
+public final class FormFill {
+
+    /** What to do with a field */
+    enum Action { TYPE, CLICK }
+
+    /** One step of the form, in the order it was added */
+    static final class Field {
+        final String name;
+        final By locator;
+        final Action action;
+        final String value; // null for clicks
+
+        private Field(String name, By locator, Action action, String value) {
+            this.name = name;
+            this.locator = locator;
+            this.action = action;
+            this.value = value;
+        }
+    }
+
+    private final List<Field> fields = new ArrayList<>();
+
+    private FormFill() {}
+
+    /** Starts an empty form */
+    public static FormFill create() {
+        return new FormFill();
+    }
+
+    /**
+     * Sets an input's value (input/change events are fired, as when typing).
+     *
+     * @param name label used when reporting a failure, e.g. "Age"
+     */
+    public FormFill type(String name, By locator, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Input value cannot be null or empty for field: " + name);
+        }
+        fields.add(new Field(name, locator, Action.TYPE, value));
+        return this;
+    }
+
+    /** Clicks an element (tabs, radios, checkboxes) as part of the form */
+    public FormFill click(String name, By locator) {
+        fields.add(new Field(name, locator, Action.CLICK, null));
+        return this;
+    }
+
+    /** Number of steps */
+    public int size() {
+        return fields.size();
+    }
+
+    List<Field> fields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    /** Script argument: one {using, value, action, text} map per field */
+    List<Map<String, Object>> toScriptArgument() {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (Field field : fields) {
+            Object[] locator = JsLocator.args(field.locator);
+            Map<String, Object> js = new HashMap<>();
+            js.put("using", locator[0]);
+            js.put("value", locator[1]);
+            js.put("action", field.action.name());
+            js.put("text", field.value);
+            out.add(js);
+        }
+        return out;
+    }
+}
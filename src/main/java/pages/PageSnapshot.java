@@ -0,0 +1,126 @@
+package pages;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+
+import utils.JsLocator;
+
+/**
+ * Immutable copy of what a page shows for a set of locators: presence, visibility, text and
+ * attributes of the first match of each, all captured in one browser call
+ * (see {@link BasePage#captureSnapshot(java.time.Duration, By...)}).
+ *
+ * <p>Assertions read from the snapshot, so verifying N values costs one round-trip instead of N waits.
+ */
+public final class PageSnapshot {
+
+    /** What was captured for one locator */
+    private static final class Entry {
+        final boolean present;
+        final boolean visible;
+        final String text;
+        final Map<String, String> attributes;
+
+        Entry(boolean present, boolean visible, String text, Map<String, String> attributes) {
+            this.present = present;
+            this.visible = visible;
+            this.text = text;
+            this.attributes = attributes;
+        }
+    }
+
+    /**
+     * Captures, per locator pair in arguments[0], the first match's visible text and attributes.
+     * With arguments[1] = true returns null until every element is present and visible, so it can be polled.
+     */
+    static final String CAPTURE_JS = JsLocator.FUNCTIONS +
+            "var locators = arguments[0], requireVisible = arguments[1], allVisible = true;" +
+            "var entries = locators.map(function (l) {" +
+            "  var el = findOne(l[0], l[1]);" +
+            "  if (!el) { allVisible = false; return {present: false}; }" +
+            "  var visible = !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)" +
+            "      && window.getComputedStyle(el).visibility !== 'hidden';" +
+            "  allVisible = allVisible && visible;" +
+            "  var attributes = {};" +
+            "  Array.prototype.forEach.call(el.attributes, function (a) { attributes[a.name] = a.value; });" +
+            "  return {present: true, visible: visible, text: visible ? (el.innerText || '').trim() : '', attributes: attributes};" +
+            "});" +
+            "return requireVisible && !allVisible ? null : entries;";
+
+    private final Map<By, Entry> entries;
+
+    private PageSnapshot(Map<By, Entry> entries) {
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    /** Builds the snapshot from the result of {@link #CAPTURE_JS} (same order as the locators) */
+    static PageSnapshot fromScript(List<By> locators, List<?> result) {
+        Map<By, Entry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            Map<?, ?> raw = (Map<?, ?>) result.get(i);
+            boolean present = Boolean.TRUE.equals(raw.get("present"));
+            Map<String, String> attributes = new LinkedHashMap<>();
+            if (raw.get("attributes") instanceof Map) {
+                ((Map<?, ?>) raw.get("attributes")).forEach((k, v) -> attributes.put(String.valueOf(k), String.valueOf(v)));
+            }
+            entries.put(locators.get(i), new Entry(present, Boolean.TRUE.equals(raw.get("visible")),
+                    present ? String.valueOf(raw.get("text")) : null, Collections.unmodifiableMap(attributes)));
+        }
+        return new PageSnapshot(entries);
+    }
+
+    /** True if the element was in the DOM when the snapshot was taken */
+    public boolean isPresent(By locator) {
+        return entry(locator).present;
+    }
+
+    /** True if the element was displayed when the snapshot was taken */
+    public boolean isVisible(By locator) {
+        return entry(locator).visible;
+    }
+
+    /**
+     * Visible text, trimmed ("" if the element was hidden, like WebElement.getText()).
+     * @throws NoSuchElementException if the element wasn't on the page
+     */
+    public String getText(By locator) {
+        return presentEntry(locator).text;
+    }
+
+    /**
+     * Attribute value as written in the DOM, or null if the element doesn't have it.
+     * @throws NoSuchElementException if the element wasn't on the page
+     */
+    public String getAttribute(By locator, String name) {
+        return presentEntry(locator).attributes.get(name);
+    }
+
+    private Entry presentEntry(By locator) {
+        Entry entry = entry(locator);
+        if (!entry.present) {
+            throw new NoSuchElementException("❌ Element was not on the page when the snapshot was taken: " + locator);
+        }
+        return entry;
+    }
+
+    private Entry entry(By locator) {
+        Entry entry = entries.get(locator);
+        if (entry == null) {
+            throw new IllegalArgumentException("❌ Locator was not part of the snapshot: " + locator);
+        }
+        return entry;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PageSnapshot{");
+        entries.forEach((locator, entry) -> sb.append(System.lineSeparator()).append("  ").append(locator)
+                .append(" -> ").append(entry.present ? "'" + entry.text + "'" : "absent"));
+        return sb.append(System.lineSeparator()).append('}').toString();
+    }
+}
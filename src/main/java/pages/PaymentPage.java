@@ -1,11 +1,16 @@
 package pages;
 
+import java.time.Duration;
+
 import org.openqa.selenium.By;
+import constants.FrameworkConstants;
 import enums.WaitStrategy;
+import factories.ExplicitWaitFactory;
 
 /**
  * Page Object for the Payment page.
  * Used for verifying payment-related headers and amounts.
+ * Call {@link #capture()} first to read all of them in one browser call instead of one wait each.
  */
 public final class PaymentPage extends BasePage {
 
@@ -15,14 +20,28 @@ public final class PaymentPage extends BasePage {
     private static final By TOTAL_DUE = By.xpath("//p[contains(normalize-space(),'Total Due')]");
     private static final By TOTAL_DUE_AMOUNT = By.xpath("//p[contains(normalize-space(),'Total Due')]/span//span[contains(text(),'₹')]");
 
+    // Set by capture(); the getters read from it instead of the live page
+    private PageSnapshot snapshot;
+
+    /**
+     * Waits for the payment page to be ready (network and DOM quiet), then captures every value
+     * this page verifies in one browser call; the getters then read from it.
+     */
+    public PaymentPage capture() {
+        ExplicitWaitFactory.performExplicitWait(WaitStrategy.READY, SCAN_TO_PAY);
+        snapshot = captureSnapshot(Duration.ofSeconds(FrameworkConstants.getExplicitWait()),
+                SCAN_TO_PAY, PAYMENT_OPTIONS, TOTAL_DUE, TOTAL_DUE_AMOUNT);
+        return this;
+    }
+
     /** Returns the 'Scan to Pay' header text */
     public String getScanToPayHeaderText() {
-        return getText(SCAN_TO_PAY, WaitStrategy.VISIBLE);
+        return read(SCAN_TO_PAY);
     }
 
     /** Returns the 'Payment Options' header text */
     public String getPaymentOptionsHeaderText() {
-        return getText(PAYMENT_OPTIONS, WaitStrategy.VISIBLE);
+        return read(PAYMENT_OPTIONS);
     }
 
     /**
@@ -30,12 +49,17 @@ public final class PaymentPage extends BasePage {
      * Splits the text by '₹' and trims extra spaces.
      */
     public String getTotalDueLabelText() {
-        String fullText = getText(TOTAL_DUE, WaitStrategy.VISIBLE);
+        String fullText = read(TOTAL_DUE);
         return fullText.split("₹")[0].trim(); // first part before ₹
     }
 
     /** Returns the amount value from 'Total Due' */
     public String getTotalDueAmountText() {
-        return getText(TOTAL_DUE_AMOUNT, WaitStrategy.VISIBLE);
+        return read(TOTAL_DUE_AMOUNT);
+    }
+
+    /** Text from the captured snapshot, or a waited lookup if capture() wasn't called */
+    private String read(By locator) {
+        return snapshot != null ? snapshot.getText(locator) : getText(locator, WaitStrategy.VISIBLE);
     }
 }
@@ -0,0 +1,354 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.WebElement;
+
+import enums.SeatSelection;
+import enums.SeatType;
+
+/**
+ * Compact model of a bus seat map, read from the page in one script call.
+ *
+ * <p>Seat {@code i} is described by the i-th slot of a few primitive arrays (deck, row, column,
+ * type, fare, availability) instead of one object or WebElement lookup per seat. Rows and columns
+ * are derived from where the seats are drawn, so seat selection can reason about the layout
+ * (adjacent seats, window seats) and only the chosen seats are ever touched through WebDriver.
+ */
+public final class SeatMap {
+
+    /**
+     * Returns null while no seat is rendered (legend icons before the first seat tooltip don't count),
+     * otherwise per-seat arrays plus the seat images: {deck, x, y, w, h, sleeper, available, price, elements}.
+     * The seat type and availability come from the icon file name (e.g. Sleeper_Available.png), the fare
+     * from a "₹ 1,234" title, aria-label or alt on the seat image, or from the text of its cell when that
+     * cell holds no other seat. Wider wrappers and siblings are never read - in dense layouts they hold a
+     * neighbouring seat's fare - so the fare is -1 when the seat's own cell doesn't show one.
+     */
+    static final String SNAPSHOT_JS =
+            "var imgs = document.querySelectorAll(\"img[src*='Seater_'], img[src*='Sleeper_']\");" +
+            "var out = {deck: [], x: [], y: [], w: [], h: [], sleeper: [], available: [], price: [], elements: []};" +
+            "var decks = [];" +
+            // Like the old XPaths: only images after the first seat tooltip, which skips the legend icons
+            "var firstTooltip = document.querySelector(\"[class*='Tooltip_tooltipWrapper']\");" +
+            "function amount(text) {" +
+            "  var m = /₹\\s*([\\d,]+)/.exec(text || '');" +
+            "  return m ? parseInt(m[1].replace(/,/g, ''), 10) : -1;" +
+            "}" +
+            "function fare(img) {" +
+            "  var own = amount([img.getAttribute('title'), img.getAttribute('aria-label'), img.alt].join(' '));" +
+            "  var cell = img.parentElement;" +
+            "  var seats = cell ? cell.querySelectorAll(\"img[src*='Seater_'], img[src*='Sleeper_']\").length : 0;" +
+            "  if (own >= 0 || seats !== 1) { return own; }" +
+            "  var label = [cell.getAttribute('title'), cell.getAttribute('aria-label'), cell.textContent];" +
+            "  return amount(label.join(' '));" +
+            "}" +
+            "Array.prototype.forEach.call(imgs, function (img) {" +
+            "  if (firstTooltip && !(firstTooltip.compareDocumentPosition(img) & Node.DOCUMENT_POSITION_FOLLOWING)) { return; }" +
+            "  var r = img.getBoundingClientRect();" +
+            "  if (!r.width && !r.height) { return; }" +   // not rendered (e.g. collapsed deck)
+            "  var src = img.getAttribute('src') || '';" +
+            "  var deckEl = img.closest(\"[class*='deck' i]\");" +
+            "  var deck = decks.indexOf(deckEl);" +
+            "  if (deck < 0) { deck = decks.length; decks.push(deckEl); }" +
+            "  out.deck.push(deck);" +
+            "  out.x.push(Math.round(r.left + r.width / 2 + window.scrollX));" +
+            "  out.y.push(Math.round(r.top + r.height / 2 + window.scrollY));" +
+            "  out.w.push(Math.round(r.width));" +
+            "  out.h.push(Math.round(r.height));" +
+            "  out.sleeper.push(src.indexOf('Sleeper_') >= 0);" +
+            "  out.available.push(/_Available\\./.test(src));" +
+            "  out.price.push(fare(img));" +
+            "  out.elements.push(img);" +
+            "});" +
+            "return out.elements.length ? out : null;";
+
+    // A seat is "next to" another if the gap between their centres is at most this many seat widths
+    private static final double ADJACENT_GAP_FACTOR = 1.5;
+
+    private final int size;
+    private final byte[] deck;
+    private final short[] row;
+    private final short[] column;
+    private final int[] centreX;   // page px, used to spot aisles
+    private final int[] width;
+    private final boolean[] sleeper;
+    private final boolean[] available;
+    private final int[] price;     // -1 = unknown
+    private final short[] firstColumn; // per deck
+    private final short[] lastColumn;  // per deck
+    private final List<WebElement> elements;
+
+    private SeatMap(int size, byte[] deck, short[] row, short[] column, int[] centreX, int[] width,
+                    boolean[] sleeper, boolean[] available, int[] price, List<WebElement> elements) {
+        this.size = size;
+        this.deck = deck;
+        this.row = row;
+        this.column = column;
+        this.centreX = centreX;
+        this.width = width;
+        this.sleeper = sleeper;
+        this.available = available;
+        this.price = price;
+        this.elements = elements;
+
+        int decks = 0;
+        for (byte d : deck) {
+            decks = Math.max(decks, d + 1);
+        }
+        firstColumn = new short[decks];
+        lastColumn = new short[decks];
+        Arrays.fill(firstColumn, Short.MAX_VALUE);
+        for (int i = 0; i < size; i++) {
+            firstColumn[deck[i]] = (short) Math.min(firstColumn[deck[i]], column[i]);
+            lastColumn[deck[i]] = (short) Math.max(lastColumn[deck[i]], column[i]);
+        }
+    }
+
+    /** Builds the model from the result of {@link #SNAPSHOT_JS} */
+    static SeatMap fromSnapshot(Map<String, Object> snapshot) {
+        List<?> decks = (List<?>) snapshot.get("deck");
+        int size = decks.size();
+        byte[] deck = new byte[size];
+        int[] x = new int[size];
+        int[] y = new int[size];
+        int[] w = new int[size];
+        int[] h = new int[size];
+        boolean[] sleeper = new boolean[size];
+        boolean[] available = new boolean[size];
+        int[] price = new int[size];
+        List<WebElement> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            deck[i] = (byte) intAt(snapshot, "deck", i);
+            x[i] = intAt(snapshot, "x", i);
+            y[i] = intAt(snapshot, "y", i);
+            w[i] = intAt(snapshot, "w", i);
+            h[i] = intAt(snapshot, "h", i);
+            sleeper[i] = Boolean.TRUE.equals(((List<?>) snapshot.get("sleeper")).get(i));
+            available[i] = Boolean.TRUE.equals(((List<?>) snapshot.get("available")).get(i));
+            price[i] = intAt(snapshot, "price", i);
+            elements.add((WebElement) ((List<?>) snapshot.get("elements")).get(i));
+        }
+        short[] row = gridIndex(deck, y, h);
+        short[] column = gridIndex(deck, x, w);
+        return new SeatMap(size, deck, row, column, x, w, sleeper, available, price,
+                Collections.unmodifiableList(elements));
+    }
+
+    // ===== Per-seat accessors (seat = 0-based index in page order) =====
+
+    /** Number of seats on the map (booked ones included) */
+    public int size() {
+        return size;
+    }
+
+    /** 0-based deck (lower deck first, as rendered) */
+    public int getDeck(int seat) {
+        return deck[seat];
+    }
+
+    /** 0-based row within the deck, top to bottom */
+    public int getRow(int seat) {
+        return row[seat];
+    }
+
+    /** 0-based column within the deck, left to right */
+    public int getColumn(int seat) {
+        return column[seat];
+    }
+
+    public SeatType getType(int seat) {
+        return sleeper[seat] ? SeatType.SLEEPER : SeatType.SEATER;
+    }
+
+    /** Fare in rupees, or -1 if the page didn't show one */
+    public int getPrice(int seat) {
+        return price[seat];
+    }
+
+    public boolean isAvailable(int seat) {
+        return available[seat];
+    }
+
+    /** True if the seat is in the outermost column on either side of its deck */
+    public boolean isWindow(int seat) {
+        return column[seat] == firstColumn[deck[seat]] || column[seat] == lastColumn[deck[seat]];
+    }
+
+    /** Number of available seats of the given type */
+    public int getAvailableCount(SeatType seatType) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (matches(i, seatType)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Seat image to click */
+    WebElement element(int seat) {
+        return elements.get(seat);
+    }
+
+    /** Index of the seat at the same deck/row/column, or -1 (used after the map is re-read) */
+    int find(int deckIndex, int rowIndex, int columnIndex) {
+        for (int i = 0; i < size; i++) {
+            if (deck[i] == deckIndex && row[i] == rowIndex && column[i] == columnIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ===== Selection =====
+
+    /**
+     * Chooses up to {@code count} available seats of the given type.
+     * Returns fewer seats when the map can't satisfy the request (e.g. no run of adjacent seats that long).
+     */
+    public int[] pick(SeatType seatType, int count, SeatSelection selection) {
+        switch (selection) {
+            case FIRST_AVAILABLE:
+                return firstMatching(seatType, count, false);
+            case WINDOW:
+                return firstMatching(seatType, count, true);
+            case CHEAPEST:
+                return cheapest(seatType, count);
+            case ADJACENT:
+                return adjacent(seatType, count);
+            default:
+                throw new IllegalStateException("❌ Unknown SeatSelection: " + selection);
+        }
+    }
+
+    private int[] firstMatching(SeatType seatType, int count, boolean windowOnly) {
+        int[] picked = new int[count];
+        int n = 0;
+        for (int i = 0; i < size && n < count; i++) {
+            if (matches(i, seatType) && (!windowOnly || isWindow(i))) {
+                picked[n++] = i;
+            }
+        }
+        return Arrays.copyOf(picked, n);
+    }
+
+    private int[] cheapest(SeatType seatType, int count) {
+        // Sort candidate indices by fare (unknown fares last), page order breaking ties
+        long[] keyed = new long[size];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (matches(i, seatType)) {
+                long fare = price[i] < 0 ? Integer.MAX_VALUE : price[i];
+                keyed[n++] = (fare << 32) | i;
+            }
+        }
+        long[] candidates = Arrays.copyOf(keyed, n);
+        Arrays.sort(candidates);
+        int[] picked = new int[Math.min(count, n)];
+        for (int i = 0; i < picked.length; i++) {
+            picked[i] = (int) candidates[i];
+        }
+        return picked;
+    }
+
+    private int[] adjacent(SeatType seatType, int count) {
+        // Candidates ordered by deck, row, column
+        Integer[] order = new Integer[size];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (matches(i, seatType)) {
+                order[n++] = i;
+            }
+        }
+        Integer[] sorted = Arrays.copyOf(order, n);
+        Arrays.sort(sorted, (a, b) -> deck[a] != deck[b] ? deck[a] - deck[b]
+                : row[a] != row[b] ? row[a] - row[b] : column[a] - column[b]);
+
+        int[] best = new int[0];
+        int runStart = 0;
+        for (int k = 1; k <= n; k++) {
+            boolean continues = k < n && nextTo(sorted[k - 1], sorted[k]);
+            if (!continues) {
+                int runLength = k - runStart;
+                if (runLength >= count) {
+                    best = new int[count];
+                    for (int j = 0; j < count; j++) {
+                        best[j] = sorted[runStart + j];
+                    }
+                    return best;
+                }
+                if (runLength > best.length) { // remember the longest run as a fallback
+                    best = new int[runLength];
+                    for (int j = 0; j < runLength; j++) {
+                        best[j] = sorted[runStart + j];
+                    }
+                }
+                runStart = k;
+            }
+        }
+        return best;
+    }
+
+    /** Same deck and row, neighbouring columns, and no aisle in between */
+    private boolean nextTo(int a, int b) {
+        return deck[a] == deck[b] && row[a] == row[b] && column[b] == column[a] + 1
+                && Math.abs(centreX[b] - centreX[a]) <= ADJACENT_GAP_FACTOR * Math.max(width[a], width[b]);
+    }
+
+    private boolean matches(int seat, SeatType seatType) {
+        return available[seat] && (seatType == null || getType(seat) == seatType);
+    }
+
+    @Override
+    public String toString() {
+        return "SeatMap[decks=" + firstColumn.length + ", seats=" + size
+                + ", available seater=" + getAvailableCount(SeatType.SEATER)
+                + ", available sleeper=" + getAvailableCount(SeatType.SLEEPER) + "]";
+    }
+
+    // ===== Building =====
+
+    private static int intAt(Map<String, Object> snapshot, String key, int index) {
+        return ((Number) ((List<?>) snapshot.get(key)).get(index)).intValue();
+    }
+
+    /**
+     * Turns pixel centres into 0-based grid indices per deck: centres closer than half the
+     * smallest seat extent are treated as the same row/column.
+     */
+    private static short[] gridIndex(byte[] deck, int[] centre, int[] extent) {
+        int size = centre.length;
+        short[] index = new short[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> deck[a] != deck[b] ? deck[a] - deck[b] : centre[a] - centre[b]);
+
+        int minExtent = Integer.MAX_VALUE;
+        for (int e : extent) {
+            minExtent = Math.min(minExtent, Math.max(1, e));
+        }
+        int tolerance = Math.max(1, minExtent / 2);
+
+        short current = 0;
+        for (int k = 0; k < size; k++) {
+            int seat = order[k];
+            if (k > 0) {
+                int previous = order[k - 1];
+                if (deck[previous] != deck[seat]) {
+                    current = 0;
+                } else if (centre[seat] - centre[previous] > tolerance) {
+                    current++;
+                }
+            }
+            index[seat] = current;
+        }
+        return index;
+    }
+}
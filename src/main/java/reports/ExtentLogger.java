@@ -1,15 +1,19 @@
 package reports;
 
-import com.aventstack.extentreports.ExtentTest;
+import java.util.function.Supplier;
+
+import com.aventstack.extentreports.Status;
 
 /**
  * Utility class for logging test steps, statuses, and screenshots to ExtentReports.
  * 
- * <p>This class uses a ThreadLocal<ExtentTest> variable to store one ExtentTest instance 
+ * <p>This class uses a ThreadLocal<TestHandle> variable to store one report entry
  * per test thread, ensuring that logs from parallel tests don't get mixed up.
  *
  * <p>It provides convenience static methods to log different statuses (PASS, FAIL, INFO, SKIP, WARN)
- * and attach screenshots to the report.
+ * and attach screenshots to the report. Calls never block: events are queued and written by a single
+ * report-writer thread (see {@link ReportWriter}), and the {@code format, args} overloads defer
+ * formatting until then. Messages logged outside a test go to a "Suite log" entry.
  */
 public final class ExtentLogger {
 
@@ -19,33 +23,34 @@ public final class ExtentLogger {
      */
     private ExtentLogger() {}
 
-    /** ThreadLocal variable to store ExtentTest instance for the current thread */
-    private static final ThreadLocal<ExtentTest> TEST = new ThreadLocal<>();
+    /** ThreadLocal variable to store the report entry for the current thread */
+    private static final ThreadLocal<TestHandle> TEST = new ThreadLocal<>();
 
     /**
-     * Sets the ExtentTest instance for the current thread.
+     * Sets the report entry for the current thread.
      * This is typically called in the TestNG listener when a test starts.
      *
-     * @param test The ExtentTest object to associate with the current thread
+     * @param test The handle returned by {@link ExtentReportManager#createTest(String)}
      */
-    public static void setTest(ExtentTest test) {
+    public static void setTest(TestHandle test) {
         TEST.set(test);
     }
 
     /**
-     * Retrieves the ExtentTest instance for the current thread.
+     * Retrieves the report entry for the current thread.
      *
-     * @return The thread's ExtentTest object, or null if not set
+     * @return The thread's TestHandle, or null if not set
      */
-    public static ExtentTest getTest() {
+    public static TestHandle getTest() {
         return TEST.get();
     }
 
     /**
-     * Removes the ExtentTest instance from the ThreadLocal storage.
+     * Marks the current test finished and removes it from the ThreadLocal storage.
      * This should be called when a test finishes to prevent memory leaks.
      */
     public static void remove() {
+        ReportWriter.end(getTest());
         TEST.remove();
     }
 
@@ -54,12 +59,12 @@ public final class ExtentLogger {
      * @param message The message describing the passed step
      */
     public static void pass(String message) {
-        ExtentTest test = getTest();
-        if (test != null) {
-            test.pass(message);
-        } else {
-            System.err.println("ExtentTest is null in pass(): " + message);
-        }
+        ReportWriter.log(getTest(), Status.PASS, message);
+    }
+
+    /** Logs a PASS status; the message is formatted with {@link String#format} by the writer thread */
+    public static void pass(String format, Object... args) {
+        ReportWriter.log(getTest(), Status.PASS, format, args);
     }
 
     /**
@@ -67,12 +72,12 @@ public final class ExtentLogger {
      * @param message The message describing the failed step
      */
     public static void fail(String message) {
-        ExtentTest test = getTest();
-        if (test != null) {
-            test.fail(message);
-        } else {
-            System.err.println("ExtentTest is null in fail(): " + message);
-        }
+        ReportWriter.log(getTest(), Status.FAIL, message);
+    }
+
+    /** Logs a FAIL status; the message is formatted with {@link String#format} by the writer thread */
+    public static void fail(String format, Object... args) {
+        ReportWriter.log(getTest(), Status.FAIL, format, args);
     }
 
     /**
@@ -80,12 +85,25 @@ public final class ExtentLogger {
      * @param message The informational message
      */
     public static void info(String message) {
-        ExtentTest test = getTest();
-        if (test != null) {
-            test.info(message);
-        } else {
-            System.err.println("ExtentTest is null in info(): " + message);
-        }
+        ReportWriter.log(getTest(), Status.INFO, message);
+    }
+
+    /** Logs an INFO message; the message is formatted with {@link String#format} by the writer thread */
+    public static void info(String format, Object... args) {
+        ReportWriter.log(getTest(), Status.INFO, format, args);
+    }
+
+    /**
+     * Logs an INFO message built only when it is written (for messages that are costly to build).
+     * @param message Supplier of the message, called on the writer thread
+     */
+    public static void info(Supplier<String> message) {
+        ReportWriter.log(getTest(), Status.INFO, "%s", new Object() {
+            @Override
+            public String toString() {
+                return message.get();
+            }
+        });
     }
 
     /**
@@ -93,12 +111,7 @@ public final class ExtentLogger {
      * @param message The reason or description for skipping
      */
     public static void skip(String message) {
-        ExtentTest test = getTest();
-        if (test != null) {
-            test.skip(message);
-        } else {
-            System.err.println("ExtentTest is null in skip(): " + message);
-        }
+        ReportWriter.log(getTest(), Status.SKIP, message);
     }
 
     /**
@@ -106,12 +119,12 @@ public final class ExtentLogger {
      * @param message The warning message
      */
     public static void warn(String message) {
-        ExtentTest test = getTest();
-        if (test != null) {
-            test.warning(message);
-        } else {
-            System.err.println("ExtentTest is null in warn(): " + message);
-        }
+        ReportWriter.log(getTest(), Status.WARNING, message);
+    }
+
+    /** Logs a WARN status; the message is formatted with {@link String#format} by the writer thread */
+    public static void warn(String format, Object... args) {
+        ReportWriter.log(getTest(), Status.WARNING, format, args);
     }
 
     /**
@@ -120,13 +133,8 @@ public final class ExtentLogger {
      * @param path The file path to the screenshot
      */
     public static void addScreenshot(String path) {
-        try {
-            ExtentTest test = getTest();
-            if (test != null && path != null) {
-                test.addScreenCaptureFromPath(path); // Attach screenshot to extent report
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+        if (path != null) {
+            ReportWriter.screenshot(getTest(), path);
         }
     }
 }
@@ -1,23 +1,37 @@
 package reports;
 
 import java.awt.Desktop;
+import java.awt.GraphicsEnvironment;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
 import constants.FrameworkConstants;
+import enums.ConfigProperties;
+import utils.PropertyUtils;
 
 /**
  * Utility class to manage ExtentReports setup and flushing.
  * Handles singleton creation, configuration, and auto-opening.
+ *
+ * <p>The ExtentReports model is not thread-safe. Test threads only queue changes; they are applied
+ * by the single report-writer thread ({@link ReportWriter}), and flushing shares {@link #REPORT_LOCK}
+ * with it.
  */
 public final class ExtentReportManager {
 
     // Singleton instance to ensure one report per run
-    private static ExtentReports extent;
+    private static volatile ExtentReports extent;
+
+    // Guards all access to the shared report model (writer thread and flush)
+    static final Object REPORT_LOCK = new Object();
+
+    // Longest flushReport waits for queued events to be written
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
 
     // Prevent object creation
     private ExtentReportManager() {}
@@ -27,35 +41,103 @@ public final class ExtentReportManager {
      * Sets config/theme and attaches system info.
      */
     public static ExtentReports initReport() {
-        if (extent == null) {
-            // Create Spark reporter and set output path
-            ExtentSparkReporter spark = new ExtentSparkReporter(FrameworkConstants.getExtentReportPath());
-
-            // Optional: Report appearance/theme settings
-            spark.config().setTheme(Theme.STANDARD);
-            spark.config().setReportName("Automation Test Report");
-            spark.config().setDocumentTitle("Test Results");
-
-            // Attach reporter to ExtentReports object
-            extent = new ExtentReports();
-            extent.attachReporter(spark);
-
-            // Add environment/tester info
-            extent.setSystemInfo("Tester", "Vijay");
-            extent.setSystemInfo("Environment", "QA");
+        synchronized (REPORT_LOCK) {
+            if (extent == null) {
+                extent = newReport(FrameworkConstants.getExtentReportPath());
+            }
+            return extent;
         }
-        return extent;
+    }
+
+    /** A configured report writing to the given HTML file (also used to rebuild it from the journal) */
+    static ExtentReports newReport(String htmlPath) {
+        // Create Spark reporter and set output path
+        ExtentSparkReporter spark = new ExtentSparkReporter(htmlPath);
+
+        // Optional: Report appearance/theme settings
+        spark.config().setTheme(Theme.STANDARD);
+        spark.config().setReportName("Automation Test Report");
+        spark.config().setDocumentTitle("Test Results");
+
+        // Attach reporter to ExtentReports object
+        ExtentReports report = new ExtentReports();
+        report.attachReporter(spark);
+
+        // Add environment/tester info
+        report.setSystemInfo("Tester", "Vijay");
+        report.setSystemInfo("Environment", "QA");
+        return report;
+    }
+
+    /**
+     * Creates a test entry in the report. Safe to call from parallel test threads; returns at once,
+     * the entry is created by the writer thread before anything logged against it.
+     */
+    public static TestHandle createTest(String testName) {
+        return createTest(testName, null);
     }
 
     /**
-     * Flushes report to disk and tries to auto-open in browser.
+     * Creates a test entry in the report.
+     * @param group test class (or other grouping) - large runs get one report shard per group
+     */
+    public static TestHandle createTest(String testName, String group) {
+        TestHandle handle = new TestHandle(testName, group);
+        ReportWriter.create(handle);
+        return handle;
+    }
+
+    /**
+     * Adds a key/value pair to the report's system info section. Safe to call from any thread.
+     */
+    public static void setSystemInfo(String key, String value) {
+        ReportWriter.systemInfo(key, value);
+    }
+
+    /**
+     * Writes all queued events, flushes report to disk and tries to auto-open in browser.
+     * If finished tests were evicted from memory during the run, the HTML is rebuilt from the journal;
+     * runs with at least {@code report_shard_min_tests} tests are split into one HTML per test class
+     * plus an index (report.html).
      */
     public static void flushReport() throws IOException {
         if (extent != null) {
-            extent.flush(); // Write test results to file
-            // Try opening report automatically after run
-            Desktop.getDesktop().browse(new File(FrameworkConstants.getExtentReportPath()).toURI());
+            boolean drained = ReportWriter.drain(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            // Read only once the backlog is written: events can be dropped until then
+            long dropped = ReportWriter.getDroppedCount();
+            if (dropped > 0) {
+                setSystemInfo("Dropped log events", String.valueOf(dropped));
+                drained = ReportWriter.drain(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS) && drained;
+            }
+            if (!drained) {
+                System.err.println("❌ Report events were still queued after " + DRAIN_TIMEOUT_SECONDS + " s");
+            }
+            synchronized (REPORT_LOCK) {
+                int shardMinTests = PropertyUtils.getInt(ConfigProperties.REPORT_SHARD_MIN_TESTS, 0);
+                boolean shard = shardMinTests > 0 && ReportWriter.getTestCount() >= shardMinTests
+                        && ReportJournal.isComplete();
+                if (shard) {
+                    ReportRebuilder.rebuildSharded(ReportJournal.getPath(), FrameworkConstants.getExtentReportPath());
+                } else if (ReportWriter.hasEvictedTests()) {
+                    ReportRebuilder.rebuild(ReportJournal.getPath(), FrameworkConstants.getExtentReportPath());
+                } else {
+                    extent.flush(); // Write test results to file
+                }
+            }
+            openInBrowser();
+        }
+    }
+
+    /** Opens the report after the run, unless switched off or there is no desktop (CI, headless Linux) */
+    private static void openInBrowser() throws IOException {
+        if (!PropertyUtils.getBoolean(ConfigProperties.REPORT_AUTO_OPEN, true)
+                || GraphicsEnvironment.isHeadless()
+                || !Desktop.isDesktopSupported()
+                || !Desktop.getDesktop().isSupported(Desktop.Action.BROWSE)) {
+            System.out.println("ℹ️ Report saved: " + FrameworkConstants.getExtentReportPath());
+            return;
         }
+        Desktop.getDesktop().browse(new File(FrameworkConstants.getExtentReportPath()).toURI());
     }
 
     /**
@@ -0,0 +1,117 @@
+package reports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import constants.FrameworkConstants;
+
+/**
+ * Append-only log of everything written to the report, one JSON object per line.
+ *
+ * <p>Written by the report-writer thread only and flushed after every batch, so a run that dies
+ * half-way still leaves a complete record up to that point. {@link ReportRebuilder} turns it back into
+ * the Spark HTML report. Lines look like:
+ * <pre>{"t":1718000000000,"e":"log","id":3,"status":"INFO","msg":"..."}</pre>
+ * with {@code e} one of create, log, screenshot, info, end.
+ */
+final class ReportJournal {
+
+    private static final Json JSON = new Json();
+
+    private static BufferedWriter out;
+    private static boolean failed;
+
+    // Prevent object creation
+    private ReportJournal() {}
+
+    /** Path of this run's journal (next to report.html) */
+    static Path getPath() {
+        return Paths.get(FrameworkConstants.getReportJournalPath()).toAbsolutePath();
+    }
+
+    /** Appends one event. The first call of a run truncates the previous run's journal. */
+    static void append(String event, long testId, String... fields) {
+        if (failed) {
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("t", System.currentTimeMillis());
+        line.put("e", event);
+        if (testId > 0) {
+            line.put("id", testId);
+        }
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            line.put(fields[i], fields[i + 1]);
+        }
+        try {
+            if (out == null) {
+                Files.createDirectories(getPath().getParent());
+                out = Files.newBufferedWriter(getPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            }
+            out.write(encode(line));
+            out.newLine();
+        } catch (IOException e) {
+            failed = true; // keep the run going; the live report still has everything
+            System.err.println("❌ Report journal disabled, could not write " + getPath() + ": " + e.getMessage());
+        }
+    }
+
+    /** One event as a single JSON line ({@code Json.toJson} pretty-prints over several lines) */
+    static String encode(Map<String, Object> event) {
+        StringBuilder line = new StringBuilder();
+        try (JsonOutput json = JSON.newOutput(line)) {
+            json.setPrettyPrint(false).write(event);
+        }
+        return line.toString();
+    }
+
+    /** Pushes buffered lines to disk (after each batch and before a rebuild) */
+    static void flush() {
+        if (out != null && !failed) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                failed = true;
+                System.err.println("❌ Report journal disabled, could not flush " + getPath() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /** True if every event of the run so far is in the journal */
+    static boolean isComplete() {
+        return out != null && !failed;
+    }
+
+    /**
+     * Reads a journal back lazily, one line at a time (close the stream when done).
+     * Unreadable lines (e.g. the last one after a crash) are skipped.
+     */
+    static Stream<Map<String, Object>> read(Path journal) throws IOException {
+        return Files.lines(journal, StandardCharsets.UTF_8)
+                .filter(line -> !line.isBlank())
+                .map(ReportJournal::parse)
+                .filter(Objects::nonNull);
+    }
+
+    private static Map<String, Object> parse(String line) {
+        try {
+            return JSON.toType(line, Json.MAP_TYPE);
+        } catch (RuntimeException e) {
+            System.err.println("❌ Skipping unreadable report journal line: " + line);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package reports;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.aventstack.extentreports.ExtentTest;
+
+import utils.ScreenshotUtils;
+
+/**
+ * Attaches screenshots to report entries.
+ *
+ * <p>Images are linked by a path relative to the report, so the report folder can be archived or moved
+ * as a whole. In THUMBNAIL mode ({@code report_screenshot_mode}) the entry shows a lazily loaded thumbnail
+ * that links to the full image, which is only fetched when clicked.
+ */
+final class ReportMedia {
+
+    // Falls back to the full image if there is no thumbnail (e.g. screenshot was saved before the mode was on)
+    private static final String THUMBNAIL_HTML =
+            "<a href='%1$s' target='_blank'><img src='%2$s' loading='lazy' alt='screenshot' style='max-width:320px'"
+            + " onerror=\"this.onerror=null;this.src='%1$s'\"></a>";
+
+    // Prevent object creation
+    private ReportMedia() {}
+
+    /**
+     * Adds the screenshot to the test.
+     * @param reportDir folder of the HTML file being written (links are relative to it)
+     */
+    static void attach(ExtentTest test, String screenshotPath, Path reportDir) {
+        String full = relative(reportDir, screenshotPath);
+        if (ScreenshotUtils.writesThumbnails()) {
+            String thumbnail = relative(reportDir, ScreenshotUtils.getThumbnailPath(screenshotPath));
+            test.info(String.format(THUMBNAIL_HTML, full, thumbnail));
+        } else {
+            test.addScreenCaptureFromPath(full);
+        }
+    }
+
+    private static String relative(Path reportDir, String path) {
+        try {
+            Path relative = reportDir.toAbsolutePath().relativize(Paths.get(path).toAbsolutePath());
+            return relative.toString().replace('\\', '/');
+        } catch (IllegalArgumentException e) {
+            return path; // different drive (Windows) - keep it absolute
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package reports;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+import constants.FrameworkConstants;
+
+/**
+ * Rebuilds the Spark HTML report from a {@link ReportJournal}.
+ *
+ * <p>Used at the end of runs that evicted finished tests from memory or are split into shards, and by
+ * hand after a run died before writing its report:
+ * <pre>java -cp ... reports.ReportRebuilder [journal.jsonl] [report.html] [--shards]</pre>
+ */
+public final class ReportRebuilder {
+
+    private static final String DEFAULT_GROUP = "Tests";
+    private static final String SUITE_LOG = "Suite log";
+
+    private static final String INDEX_HTML = "<!DOCTYPE html><html><head><meta charset='utf-8'>"
+            + "<title>Test Results</title><style>body{font-family:sans-serif;margin:2em}"
+            + "table{border-collapse:collapse}td,th{border:1px solid #ccc;padding:4px 12px;text-align:left}"
+            + ".fail{color:#c00}</style></head><body><h2>Automation Test Report</h2>"
+            + "<table><tr><th>Test class</th><th>Tests</th><th>Passed</th><th>Failed</th><th>Skipped</th></tr>"
+            + "%s</table></body></html>";
+    private static final String INDEX_ROW = "<tr><td><a href='%s'>%s</a></td><td>%d</td><td>%d</td>"
+            + "<td class='%s'>%d</td><td>%d</td></tr>";
+
+    // Prevent object creation
+    private ReportRebuilder() {}
+
+    public static void main(String[] args) throws IOException {
+        Path journal = Paths.get(args.length > 0 ? args[0] : FrameworkConstants.getReportJournalPath());
+        String html = args.length > 1 ? args[1] : FrameworkConstants.getExtentReportPath();
+        if (args.length > 2 && "--shards".equals(args[2])) {
+            rebuildSharded(journal, html);
+            System.out.println("✅ Rebuilt sharded report: " + html);
+        } else {
+            System.out.println("✅ Rebuilt report with " + rebuild(journal, html)[0] + " tests: " + html);
+        }
+    }
+
+    /**
+     * Replays the whole journal into a fresh report and writes it to the given HTML file.
+     * @return {tests, passed, failed, skipped}
+     */
+    public static int[] rebuild(Path journal, String htmlPath) throws IOException {
+        return replay(journal, null, htmlPath);
+    }
+
+    /**
+     * Writes one report per test class ({@code report-<class>.html}, next to {@code indexPath}) and a
+     * light index page with per-class counts at {@code indexPath}. Messages logged outside tests get a
+     * "Suite log" shard. The journal is streamed once per shard, so only one shard's model is in memory.
+     */
+    public static void rebuildSharded(Path journal, String indexPath) throws IOException {
+        Map<String, String> groups = new TreeMap<>(); // group -> shard file name
+        try (Stream<Map<String, Object>> events = ReportJournal.read(journal)) {
+            events.forEach(event -> {
+                if ("create".equals(event.get("e"))) {
+                    groups.computeIfAbsent(groupOf(event), ReportRebuilder::shardFileName);
+                } else if (!"info".equals(event.get("e")) && !(event.get("id") instanceof Number)) {
+                    groups.computeIfAbsent(SUITE_LOG, ReportRebuilder::shardFileName);
+                }
+            });
+        }
+
+        Path dir = Paths.get(indexPath).toAbsolutePath().getParent();
+        StringBuilder rows = new StringBuilder();
+        for (Map.Entry<String, String> group : groups.entrySet()) {
+            int[] counts = replay(journal, group.getKey(), dir.resolve(group.getValue()).toString());
+            rows.append(String.format(INDEX_ROW, group.getValue(), escape(group.getKey()), counts[0], counts[1],
+                    counts[2] > 0 ? "fail" : "", counts[2], counts[3]));
+        }
+        Files.write(Paths.get(indexPath), String.format(INDEX_HTML, rows).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Streams the journal and replays the events of one group (null = all) into a report at htmlPath.
+     * @return {tests, passed, failed, skipped}
+     */
+    private static int[] replay(Path journal, String group, String htmlPath) throws IOException {
+        ExtentReports report = ExtentReportManager.newReport(htmlPath);
+        Path reportDir = Paths.get(htmlPath).toAbsolutePath().getParent();
+        Map<Long, ExtentTest> tests = new HashMap<>();
+        ExtentTest suiteLog = null;
+
+        try (Stream<Map<String, Object>> events = ReportJournal.read(journal)) {
+            for (Map<String, Object> event : (Iterable<Map<String, Object>>) events::iterator) {
+                String type = String.valueOf(event.get("e"));
+                Date time = new Date(((Number) event.get("t")).longValue());
+                Long id = event.get("id") instanceof Number ? ((Number) event.get("id")).longValue() : null;
+
+                if ("create".equals(type)) {
+                    if (group == null || group.equals(groupOf(event))) {
+                        ExtentTest test = report.createTest(String.valueOf(event.get("name")));
+                        test.getModel().setStartTime(time);
+                        tests.put(id, test);
+                    }
+                    continue;
+                }
+                if ("info".equals(type)) {
+                    report.setSystemInfo(String.valueOf(event.get("key")), String.valueOf(event.get("value")));
+                    continue;
+                }
+
+                ExtentTest test;
+                if (id != null) {
+                    test = tests.get(id);
+                    if (test == null) {
+                        continue; // test of another shard
+                    }
+                } else if (group == null || SUITE_LOG.equals(group)) {
+                    if (suiteLog == null) {
+                        suiteLog = report.createTest(SUITE_LOG);
+                    }
+                    test = suiteLog;
+                } else {
+                    continue;
+                }
+
+                if ("end".equals(type)) {
+                    test.getModel().setEndTime(time);
+                } else if ("log".equals(type)) {
+                    test.log(Status.valueOf(String.valueOf(event.get("status"))), String.valueOf(event.get("msg")));
+                } else if ("screenshot".equals(type)) {
+                    ReportMedia.attach(test, String.valueOf(event.get("path")), reportDir);
+                }
+            }
+        }
+        report.flush();
+
+        int[] counts = {tests.size(), 0, 0, 0};
+        for (ExtentTest test : tests.values()) {
+            Status status = test.getStatus();
+            if (status == Status.FAIL) {
+                counts[2]++;
+            } else if (status == Status.SKIP) {
+                counts[3]++;
+            } else {
+                counts[1]++;
+            }
+        }
+        return counts;
+    }
+
+    private static String groupOf(Map<String, Object> createEvent) {
+        return Objects.toString(createEvent.get("group"), DEFAULT_GROUP);
+    }
+
+    private static String shardFileName(String group) {
+        return "report-" + group.replaceAll("[^A-Za-z0-9_.-]", "_") + ".html";
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
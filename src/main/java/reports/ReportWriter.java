@@ -0,0 +1,274 @@
+package reports;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+import constants.FrameworkConstants;
+import enums.ConfigProperties;
+import utils.PropertyUtils;
+
+/**
+ * Single background thread that applies all report events to the ExtentReports model.
+ *
+ * <p>Test threads only put events on a lock-free queue and return; formatting of the message
+ * happens here, when the event is written. The backlog is bounded ({@code report_queue_capacity}).
+ * When it is full, {@code report_queue_policy=DROP} (default) drops informational events (INFO, PASS,
+ * WARNING) and counts them, while {@code BLOCK} makes the test thread wait for room. Test creation,
+ * failures, skips and screenshots are never dropped.
+ *
+ * <p>Every applied event is also appended to the {@link ReportJournal}. Every
+ * {@code report_flush_interval_seconds} the HTML report is rewritten, so a long run has an up-to-date
+ * report on disk. With {@code report_evict_finished_tests=true} a finished test is removed from the
+ * in-memory model instead (memory stays flat on soak runs) and the HTML is rebuilt from the journal
+ * when the run ends. Periodic flushing is then off: report.html only appears at the end, and during the
+ * run (or after a crash) the journal is the record - run {@link ReportRebuilder} on it for a report.
+ */
+final class ReportWriter {
+
+    enum Kind { CREATE, LOG, SCREENSHOT, SYSTEM_INFO, END, BARRIER }
+
+    /** One queued change to the report. Message = String.format(format, args) when args are given. */
+    private static final class Event {
+        final Kind kind;
+        final TestHandle handle;
+        final Status status;
+        final String format;
+        final Object[] args;
+        final CountDownLatch barrier;
+
+        Event(Kind kind, TestHandle handle, Status status, String format, Object[] args, CountDownLatch barrier) {
+            this.kind = kind;
+            this.handle = handle;
+            this.status = status;
+            this.format = format;
+            this.args = args;
+            this.barrier = barrier;
+        }
+
+        String message() {
+            return args == null || args.length == 0 ? format : String.format(format, args);
+        }
+
+        boolean droppable() {
+            return kind == Kind.LOG && (status == Status.INFO || status == Status.PASS || status == Status.WARNING);
+        }
+    }
+
+    private static final int BATCH_SIZE = 256;                      // events applied per lock acquisition
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private static final Queue<Event> QUEUE = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger BACKLOG = new AtomicInteger();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final int CAPACITY = PropertyUtils.getInt(ConfigProperties.REPORT_QUEUE_CAPACITY, 10_000);
+    private static final boolean BLOCK_WHEN_FULL =
+            "BLOCK".equalsIgnoreCase(PropertyUtils.get(ConfigProperties.REPORT_QUEUE_POLICY, "DROP"));
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(
+            Math.max(1, PropertyUtils.getInt(ConfigProperties.REPORT_FLUSH_INTERVAL_SECONDS, 30)));
+    private static final boolean EVICT_FINISHED =
+            PropertyUtils.getBoolean(ConfigProperties.REPORT_EVICT_FINISHED_TESTS, false);
+
+    private static final Thread WRITER = startWriter();
+
+    // Suite-level entry for messages logged outside any test (created on first use, writer thread only)
+    private static ExtentTest suiteLog;
+
+    // Writer thread only
+    private static long nextFlush = System.nanoTime() + FLUSH_INTERVAL_NANOS;
+    private static volatile boolean evicted;
+    private static final AtomicInteger TESTS = new AtomicInteger();
+    private static final Path REPORT_DIR =
+            Paths.get(FrameworkConstants.getExtentReportPath()).toAbsolutePath().getParent();
+
+    // Prevent object creation
+    private ReportWriter() {}
+
+    // ===== Producer side (any thread, never blocks unless policy is BLOCK) =====
+
+    static void create(TestHandle handle) {
+        TESTS.incrementAndGet();
+        offer(new Event(Kind.CREATE, handle, null, handle.getName(), null, null));
+    }
+
+    static void log(TestHandle handle, Status status, String format, Object... args) {
+        offer(new Event(Kind.LOG, handle, status, format, args, null));
+    }
+
+    static void screenshot(TestHandle handle, String path) {
+        offer(new Event(Kind.SCREENSHOT, handle, null, path, null, null));
+    }
+
+    static void systemInfo(String key, String value) {
+        offer(new Event(Kind.SYSTEM_INFO, null, null, key, new Object[] {value}, null));
+    }
+
+    /** Marks the test finished; nothing more is logged against the handle after this */
+    static void end(TestHandle handle) {
+        if (handle != null) {
+            offer(new Event(Kind.END, handle, null, null, null, null));
+        }
+    }
+
+    /**
+     * Waits until every event queued before this call has been applied.
+     * @return false if that didn't happen within the timeout
+     */
+    static boolean drain(long timeout, TimeUnit unit) {
+        CountDownLatch done = new CountDownLatch(1);
+        offer(new Event(Kind.BARRIER, null, null, null, null, done));
+        try {
+            return done.await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** True once a finished test was removed from the live model, i.e. the HTML must be rebuilt from the journal */
+    static boolean hasEvictedTests() {
+        return evicted;
+    }
+
+    /** Tests created so far this run */
+    static int getTestCount() {
+        return TESTS.get();
+    }
+
+    /** Informational events dropped so far because the backlog was full */
+    static long getDroppedCount() {
+        return DROPPED.get();
+    }
+
+    private static void offer(Event event) {
+        if (BACKLOG.incrementAndGet() > CAPACITY && event.droppable()) {
+            if (!BLOCK_WHEN_FULL) {
+                BACKLOG.decrementAndGet();
+                DROPPED.incrementAndGet();
+                return;
+            }
+            while (BACKLOG.get() > CAPACITY) {
+                LockSupport.unpark(WRITER);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1)); // backpressure: wait for the writer
+            }
+        }
+        QUEUE.offer(event);
+        LockSupport.unpark(WRITER);
+    }
+
+    // ===== Writer side =====
+
+    private static Thread startWriter() {
+        Thread thread = new Thread(ReportWriter::run, "report-writer");
+        thread.setDaemon(true); // flushReport drains the queue before the run ends
+        thread.start();
+        return thread;
+    }
+
+    private static void run() {
+        while (true) {
+            Event event = QUEUE.poll();
+            if (event == null) {
+                flushIfDue();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            // Apply a batch per lock acquisition; flush() takes the same lock
+            synchronized (ExtentReportManager.REPORT_LOCK) {
+                int applied = 0;
+                do {
+                    BACKLOG.decrementAndGet();
+                    if (event.kind == Kind.BARRIER) {
+                        ReportJournal.flush(); // everything before the barrier is on disk
+                    }
+                    apply(event);
+                } while (++applied < BATCH_SIZE && (event = QUEUE.poll()) != null);
+                ReportJournal.flush();
+            }
+            flushIfDue();
+        }
+    }
+
+    /** Rewrites the HTML report every flush interval (not when tests are evicted - it would be partial) */
+    private static void flushIfDue() {
+        if (EVICT_FINISHED || System.nanoTime() < nextFlush) {
+            return;
+        }
+        nextFlush = System.nanoTime() + FLUSH_INTERVAL_NANOS;
+        try {
+            synchronized (ExtentReportManager.REPORT_LOCK) {
+                if (ExtentReportManager.getExtent() != null) {
+                    ExtentReportManager.getExtent().flush();
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Periodic report flush failed: " + e);
+        }
+    }
+
+    private static void apply(Event event) {
+        try {
+            switch (event.kind) {
+                case CREATE:
+                    event.handle.bind(ExtentReportManager.initReport().createTest(event.format));
+                    ReportJournal.append("create", event.handle.id(), "name", event.format,
+                            "group", event.handle.getGroup());
+                    break;
+                case LOG:
+                    String message = event.message();
+                    target(event.handle).log(event.status, message);
+                    ReportJournal.append("log", idOf(event.handle), "status", event.status.name(), "msg", message);
+                    break;
+                case SCREENSHOT:
+                    ReportMedia.attach(target(event.handle), event.format, REPORT_DIR);
+                    ReportJournal.append("screenshot", idOf(event.handle), "path", event.format);
+                    break;
+                case SYSTEM_INFO:
+                    ExtentReportManager.initReport().setSystemInfo(event.format, String.valueOf(event.args[0]));
+                    ReportJournal.append("info", 0, "key", event.format, "value", String.valueOf(event.args[0]));
+                    break;
+                case END:
+                    ReportJournal.append("end", event.handle.id());
+                    // Only evict what the journal holds, otherwise the rebuilt report would miss it
+                    if (EVICT_FINISHED && event.handle.test() != null && ReportJournal.isComplete()) {
+                        ExtentReportManager.initReport().removeTest(event.handle.test());
+                        evicted = true;
+                    }
+                    break;
+                case BARRIER:
+                    event.barrier.countDown();
+                    break;
+                default:
+                    break;
+            }
+        } catch (Exception e) {
+            // A bad event (e.g. format mismatch, missing file) must not stop the writer
+            System.err.println("❌ Report event could not be written: " + e);
+        }
+    }
+
+    /** Journal id of the handle's test; 0 (suite log) if there is none */
+    private static long idOf(TestHandle handle) {
+        return handle != null && handle.test() != null ? handle.id() : 0;
+    }
+
+    /** The handle's test, or the suite-level log for messages sent outside a test */
+    private static ExtentTest target(TestHandle handle) {
+        if (handle != null && handle.test() != null) {
+            return handle.test();
+        }
+        if (suiteLog == null) {
+            suiteLog = ExtentReportManager.initReport().createTest("Suite log");
+        }
+        return suiteLog;
+    }
+}
@@ -0,0 +1,49 @@
+package reports;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.aventstack.extentreports.ExtentTest;
+
+/**
+ * A test's entry in the report, handed out immediately by {@link ExtentReportManager#createTest(String)}.
+ * The underlying {@link ExtentTest} is created later by the report-writer thread; events logged
+ * against the handle are applied after it, in order.
+ */
+public final class TestHandle {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final long id = SEQUENCE.incrementAndGet(); // identifies the test in the report journal
+    private final String name;
+    private final String group;
+
+    // Set by the writer thread when it processes the create event; only read there too
+    private ExtentTest test;
+
+    TestHandle(String name, String group) {
+        this.name = name;
+        this.group = group;
+    }
+
+    /** Test name as shown in the report */
+    public String getName() {
+        return name;
+    }
+
+    /** Report shard the test belongs to (its test class), or null */
+    public String getGroup() {
+        return group;
+    }
+
+    long id() {
+        return id;
+    }
+
+    ExtentTest test() {
+        return test;
+    }
+
+    void bind(ExtentTest extentTest) {
+        this.test = extentTest;
+    }
+}
@@ -0,0 +1,154 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import constants.FrameworkConstants;
+import driver.DriverManager;
+import enums.ConfigProperties;
+
+/**
+ * Keeps evidence of the last few page actions of each test in memory: URL, title, a DOM snippet
+ * around the element acted on and (optionally) a screenshot.
+ *
+ * <p>The buffer is a fixed-size ring per test thread. It is written to disk only when the test fails
+ * ({@link #persist(String)}) and simply dropped otherwise, so passing tests cost no extra I/O.
+ */
+public final class EvidenceBuffer {
+
+    private static final int MAX_SNIPPET_CHARS = 4_000;
+
+    // URL, title and the outerHTML of the acted-on element's parent (trimmed) in one call
+    private static final String SNIPPET_JS = JsLocator.FUNCTIONS +
+            "var el = arguments[0] ? findOne(arguments[0], arguments[1]) : null;" +
+            "var scope = el ? (el.parentElement || el) : document.body;" +
+            "var html = scope ? scope.outerHTML : '';" +
+            "return {url: location.href, title: document.title," +
+            "    html: html.length > arguments[2] ? html.substring(0, arguments[2]) + '<!-- truncated -->' : html};";
+
+    /** One sampled step */
+    private static final class Evidence {
+        final Instant time = Instant.now();
+        final String page;
+        final String action;
+        final String target;
+        final String url;
+        final String title;
+        final String html;
+        final byte[] screenshot; // PNG, null if screenshots are off
+
+        Evidence(String page, String action, String target, String url, String title, String html, byte[] screenshot) {
+            this.page = page;
+            this.action = action;
+            this.target = target;
+            this.url = url;
+            this.title = title;
+            this.html = html;
+            this.screenshot = screenshot;
+        }
+    }
+
+    private static final ThreadLocal<Deque<Evidence>> BUFFER = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<int[]> ACTION_COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    // Prevent object creation
+    private EvidenceBuffer() {}
+
+    /** Ring size per test ({@code evidence_buffer_size}); 0 switches evidence off */
+    public static int getCapacity() {
+        return PropertyUtils.getInt(ConfigProperties.EVIDENCE_BUFFER_SIZE, 0);
+    }
+
+    /**
+     * Called after a page action. Every {@code evidence_sample_rate}-th action is sampled;
+     * the oldest sample is dropped once the ring is full. Never throws.
+     *
+     * @param page    page object that acted, e.g. "BusBookingPage"
+     * @param action  e.g. "click"
+     * @param locator W3C {strategy, value} of the element (see {@link JsLocator#args}), or null
+     */
+    public static void afterAction(String page, String action, Object[] locator) {
+        int capacity = getCapacity();
+        if (capacity <= 0) {
+            return;
+        }
+        int sampleRate = Math.max(1, PropertyUtils.getInt(ConfigProperties.EVIDENCE_SAMPLE_RATE, 1));
+        if (ACTION_COUNT.get()[0]++ % sampleRate != 0) {
+            return;
+        }
+        try {
+            WebDriver driver = DriverManager.getDriver();
+            Map<?, ?> snippet = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(SNIPPET_JS,
+                    locator == null ? null : locator[0], locator == null ? null : locator[1], MAX_SNIPPET_CHARS);
+            byte[] screenshot = PropertyUtils.getBoolean(ConfigProperties.EVIDENCE_SCREENSHOTS, false)
+                    ? ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES)
+                    : null;
+
+            Deque<Evidence> ring = BUFFER.get();
+            while (ring.size() >= capacity) {
+                ring.removeFirst();
+            }
+            ring.addLast(new Evidence(page, action, locator == null ? "-" : locator[0] + ": " + locator[1],
+                    String.valueOf(snippet.get("url")), String.valueOf(snippet.get("title")),
+                    String.valueOf(snippet.get("html")), screenshot));
+        } catch (RuntimeException e) {
+            // Evidence is best-effort (page mid-navigation, browser gone) and must never fail a step
+        }
+    }
+
+    /** Drops the current thread's evidence (test passed/skipped, or a new test starts) */
+    public static void clear() {
+        BUFFER.remove();
+        ACTION_COUNT.remove();
+    }
+
+    /**
+     * Writes the current thread's evidence to {@code <evidence folder>/<test>_<thread>_<time>/}
+     * (index.txt plus one .html and optional .jpg screenshot per step) and clears it.
+     *
+     * @return absolute path of the folder, or null if there was nothing to write
+     */
+    public static String persist(String testName) {
+        Deque<Evidence> ring = BUFFER.get();
+        clear();
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Path dir = Paths.get(FrameworkConstants.getEvidencePath(),
+                testName + "_" + Thread.currentThread().threadId() + "_" + System.currentTimeMillis()).toAbsolutePath();
+        try {
+            Files.createDirectories(dir);
+            StringBuilder index = new StringBuilder();
+            int step = 1;
+            for (Evidence evidence : ring) {
+                String prefix = String.format("%02d_%s", step++, evidence.action);
+                index.append(String.format("%s  %s  %s.%s -> %s%n    %s | %s%n", prefix, evidence.time,
+                        evidence.page, evidence.action, evidence.target, evidence.title, evidence.url));
+                Files.write(dir.resolve(prefix + ".html"), evidence.html.getBytes(StandardCharsets.UTF_8));
+                if (evidence.screenshot != null) {
+                    // Encoded here, on the failure path only; PNG if JPEG compression is off
+                    byte[] jpeg = ScreenshotUtils.toJpeg(evidence.screenshot);
+                    Files.write(dir.resolve(prefix + (jpeg != null ? ".jpg" : ".png")),
+                            jpeg != null ? jpeg : evidence.screenshot);
+                }
+            }
+            Files.write(dir.resolve("index.txt"), index.toString().getBytes(StandardCharsets.UTF_8));
+            return dir.toString();
+        } catch (IOException e) {
+            System.err.println("❌ Failed to save failure evidence for test: " + testName + " - " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import constants.FrameworkConstants;
+import enums.ConfigProperties;
+
+/**
+ * Cache of Excel sheets compiled into compact binary snapshots.
+ *
+ * <ul>
+ *   <li>In process: each sheet is parsed at most once and the same immutable {@link SheetData}
+ *       is shared by every caller.</li>
+ *   <li>On disk ({@code excel_cache_enabled=true}): the parsed sheet is written to
+ *       {@code target/excel-cache/} and memory-mapped on later runs instead of running POI again.
+ *       A snapshot is trusted while the workbook's size and modified time are unchanged; if those
+ *       differ, the SHA-256 of the workbook decides whether it really changed.</li>
+ *   <li>Iterator DataProviders can read a snapshot row by row instead ({@link #mapSheet(String)}),
+ *       so a big sheet is never decoded into memory as a whole.</li>
+ * </ul>
+ */
+public final class ExcelDataCache {
+
+    // Snapshot file layout: MAGIC, VERSION, size, mtime, sha256, headers, rows (UTF-8 strings)
+    private static final int MAGIC = 0x58445443; // "XDTC"
+    private static final int VERSION = 1;
+    private static final int HASH_LENGTH = 32;
+
+    /** Data rows of a memory-mapped snapshot, decoded one per {@link #next()} */
+    static final class MappedRows implements Iterator<String[]> {
+        private final ByteBuffer buffer;
+        private final String[] headers;
+        private final int rowCount;
+        private int next;
+
+        private MappedRows(ByteBuffer buffer, String[] headers, int rowCount) {
+            this.buffer = buffer;
+            this.headers = headers;
+            this.rowCount = rowCount;
+        }
+
+        String[] getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < rowCount;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String[] row = new String[headers.length];
+            for (int c = 0; c < row.length; c++) {
+                row[c] = readString(buffer);
+            }
+            next++;
+            return row;
+        }
+    }
+
+    // One shared copy per workbook+sheet for the whole JVM
+    private static final Map<String, SheetData> SHEETS = new ConcurrentHashMap<>();
+
+    // Prevent object creation
+    private ExcelDataCache() {}
+
+    /** Returns the (shared, immutable) contents of one sheet of the default test-data workbook */
+    public static SheetData getSheet(String sheetName) throws IOException {
+        return getSheets(sheetName).get(sheetName);
+    }
+
+    /**
+     * Returns several sheets of the default test-data workbook.
+     * Sheets that are not cached yet are compiled together, opening the workbook only once.
+     */
+    public static Map<String, SheetData> getSheets(String... sheetNames) throws IOException {
+        Path workbook = Paths.get(FrameworkConstants.getExcelFilePath()).toAbsolutePath();
+        Map<String, SheetData> result = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String sheetName : sheetNames) {
+            SheetData cached = SHEETS.get(key(workbook, sheetName));
+            if (cached != null) {
+                result.put(sheetName, cached);
+            } else {
+                missing.add(sheetName);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            synchronized (ExcelDataCache.class) {
+                for (Map.Entry<String, SheetData> entry : load(workbook, missing).entrySet()) {
+                    // putIfAbsent keeps the first copy if another thread won the race
+                    SHEETS.putIfAbsent(key(workbook, entry.getKey()), entry.getValue());
+                    result.put(entry.getKey(), SHEETS.get(key(workbook, entry.getKey())));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Opens the on-disk snapshot of a sheet of the default workbook for row-by-row reading.
+     * @return the rows, or null if the sheet is already in memory, the disk cache is off or there is no
+     *         snapshot matching the workbook's size and mtime - use {@link #getSheet(String)} then
+     */
+    static MappedRows mapSheet(String sheetName) throws IOException {
+        Path workbook = Paths.get(FrameworkConstants.getExcelFilePath()).toAbsolutePath();
+        if (SHEETS.containsKey(key(workbook, sheetName))
+                || !PropertyUtils.getBoolean(ConfigProperties.EXCEL_CACHE_ENABLED, true)) {
+            return null;
+        }
+        Path file = snapshotPath(workbook, sheetName);
+        long size = Files.size(workbook);
+        long modified = Files.getLastModifiedTime(workbook).toMillis();
+        if (!Files.exists(file) || !matchesFingerprint(file, size, modified)) {
+            return null;
+        }
+        return mapSnapshot(file, size, modified, null);
+    }
+
+    // ===== Loading =====
+
+    /** Loads sheets of any workbook from snapshots where they are still valid, compiling the rest */
+    static Map<String, SheetData> load(Path workbook, List<String> sheetNames) throws IOException {
+        boolean persistent = PropertyUtils.getBoolean(ConfigProperties.EXCEL_CACHE_ENABLED, true);
+        long size = Files.size(workbook);
+        long modified = Files.getLastModifiedTime(workbook).toMillis();
+        byte[] hash = null; // computed only when size/mtime don't match a snapshot
+
+        Map<String, SheetData> loaded = new LinkedHashMap<>();
+        List<String> toCompile = new ArrayList<>();
+
+        for (String sheetName : sheetNames) {
+            SheetData snapshot = null;
+            if (persistent) {
+                Path file = snapshotPath(workbook, sheetName);
+                if (Files.exists(file)) {
+                    if (hash == null && !matchesFingerprint(file, size, modified)) {
+                        hash = sha256(workbook);
+                    }
+                    snapshot = readSnapshot(file, size, modified, hash);
+                    if (snapshot != null && hash != null && !matchesFingerprint(file, size, modified)) {
+                        // Same content under a new mtime (e.g. fresh checkout): refresh the cheap fingerprint
+                        writeSnapshot(file, snapshot, size, modified, hash);
+                    }
+                }
+            }
+            if (snapshot != null) {
+                loaded.put(sheetName, snapshot);
+            } else {
+                toCompile.add(sheetName);
+            }
+        }
+
+        if (!toCompile.isEmpty()) {
+            if (persistent && hash == null) {
+                hash = sha256(workbook);
+            }
+            try (ExcelStreamReader reader = ExcelStreamReader.open(workbook.toString())) {
+                for (String sheetName : toCompile) {
+                    SheetData compiled = compile(reader, sheetName);
+                    loaded.put(sheetName, compiled);
+                    if (persistent) {
+                        writeSnapshot(snapshotPath(workbook, sheetName), compiled, size, modified, hash);
+                    }
+                }
+            }
+            System.out.println("ℹ️ Compiled Excel sheet(s) " + toCompile + " from " + workbook.getFileName());
+        }
+        return loaded;
+    }
+
+    /** Parses one sheet with the streaming reader into an immutable SheetData */
+    private static SheetData compile(ExcelStreamReader reader, String sheetName) throws IOException {
+        try (ExcelStreamReader.SheetRowIterator rows = reader.iterateSheet(sheetName)) {
+            List<String[]> data = new ArrayList<>();
+            while (rows.hasNext()) {
+                data.add(rows.next());
+            }
+            return new SheetData(rows.getHeaders(), data.toArray(new String[0][]));
+        }
+    }
+
+    // ===== Snapshot files =====
+
+    static Path snapshotPath(Path workbook, String sheetName) {
+        String safeName = (workbook.getFileName() + "." + sheetName).replaceAll("[^A-Za-z0-9._-]", "_");
+        return Paths.get(FrameworkConstants.getExcelCachePath(), safeName + ".bin");
+    }
+
+    /** Cheap check: does the snapshot header record the workbook's current size and mtime? */
+    private static boolean matchesFingerprint(Path file, long size, long modified) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(24);
+            channel.read(header, 0);
+            header.flip();
+            return header.remaining() == 24 && header.getInt() == MAGIC && header.getInt() == VERSION
+                    && header.getLong() == size && header.getLong() == modified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Memory-maps a snapshot and decodes it.
+     *
+     * @param hash workbook hash to compare against, or null to trust a matching size/mtime
+     * @return the sheet, or null if the snapshot is stale, foreign or corrupt
+     */
+    private static SheetData readSnapshot(Path file, long size, long modified, byte[] hash) {
+        MappedRows mapped = mapSnapshot(file, size, modified, hash);
+        if (mapped == null) {
+            return null;
+        }
+        try {
+            String[][] rows = new String[mapped.rowCount][];
+            for (int r = 0; r < rows.length; r++) {
+                rows[r] = mapped.next();
+            }
+            return new SheetData(mapped.getHeaders(), rows);
+        } catch (RuntimeException e) {
+            System.err.println("❌ Ignoring unreadable Excel snapshot " + file.getFileName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Memory-maps a snapshot and decodes its header only; rows are decoded as they are iterated.
+     *
+     * @param hash workbook hash to compare against, or null to trust a matching size/mtime
+     * @return the rows, or null if the snapshot is stale, foreign or corrupt
+     */
+    private static MappedRows mapSnapshot(Path file, long size, long modified, byte[] hash) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long snapSize = buffer.getLong();
+            long snapModified = buffer.getLong();
+            byte[] snapHash = new byte[HASH_LENGTH];
+            buffer.get(snapHash);
+
+            boolean sameFingerprint = snapSize == size && snapModified == modified;
+            if (!sameFingerprint && (hash == null || !Arrays.equals(hash, snapHash))) {
+                return null; // workbook changed since the snapshot was compiled
+            }
+
+            int columns = buffer.getInt();
+            String[] headers = new String[columns];
+            for (int c = 0; c < columns; c++) {
+                headers[c] = readString(buffer);
+            }
+            return new MappedRows(buffer, headers, buffer.getInt()); // the mapping outlives the channel
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Ignoring unreadable Excel snapshot " + file.getFileName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Writes a snapshot atomically (temp file + rename) so parallel JVMs never see half a file */
+    private static void writeSnapshot(Path file, SheetData sheet, long size, long modified, byte[] hash) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(size);
+                out.writeLong(modified);
+                out.write(hash);
+                out.writeInt(sheet.getColumnCount());
+                for (String header : sheet.headers()) {
+                    writeString(out, header);
+                }
+                out.writeInt(sheet.getRowCount());
+                for (String[] row : sheet.rows()) {
+                    for (String value : row) {
+                        writeString(out, value);
+                    }
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The cache is an optimisation only; the data itself is already in memory
+            System.err.println("❌ Could not write Excel snapshot " + file.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] sha256(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                digest.update(chunk, 0, read);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String key(Path workbook, String sheetName) {
+        return workbook + "#" + sheetName;
+    }
+}
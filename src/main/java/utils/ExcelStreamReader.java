@@ -0,0 +1,322 @@
+package utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+/**
+ * Streaming reader for .xlsx test data, built on POI's {@link XSSFReader}.
+ *
+ * <p>Unlike {@code new XSSFWorkbook(...)}, nothing but the shared-strings and styles tables is
+ * loaded up front: sheet XML is pulled row by row with StAX, so memory stays flat regardless of
+ * sheet size and the first row is available as soon as it has been parsed.
+ *
+ * <p>Row 1 of a sheet is treated as the header. Data rows come back as {@code String[]}
+ * aligned to the header columns and formatted exactly like {@link DataFormatter} would.
+ */
+public final class ExcelStreamReader implements Closeable {
+
+    private final OPCPackage pkg;
+    private final XSSFReader reader;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+
+    // Formats numbers/dates the same way ExcelUtils always has
+    private final DataFormatter formatter = new DataFormatter();
+
+    private ExcelStreamReader(OPCPackage pkg) throws IOException {
+        this.pkg = pkg;
+        try {
+            this.reader = new XSSFReader(pkg);
+            this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            this.styles = reader.getStylesTable();
+        } catch (OpenXML4JException | org.xml.sax.SAXException e) {
+            pkg.revert();
+            throw new IOException("❌ Unable to read workbook structure", e);
+        }
+    }
+
+    /**
+     * Opens a workbook read-only for streaming.
+     *
+     * @param path path to the .xlsx file
+     */
+    public static ExcelStreamReader open(String path) throws IOException {
+        try {
+            return new ExcelStreamReader(OPCPackage.open(path, PackageAccess.READ));
+        } catch (org.apache.poi.openxml4j.exceptions.InvalidFormatException e) {
+            throw new IOException("❌ Not a valid .xlsx file: " + path, e);
+        }
+    }
+
+    /**
+     * Starts streaming the given sheet. The header row is read immediately;
+     * data rows are parsed only as the iterator is advanced.
+     *
+     * @param sheetName name of the sheet tab
+     * @return row iterator, which must be closed (it is closed automatically once exhausted)
+     */
+    public SheetRowIterator iterateSheet(String sheetName) throws IOException {
+        try {
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                InputStream sheetStream = sheets.next();
+                if (sheetName.equals(sheets.getSheetName())) {
+                    return new SheetRowIterator(sheetStream);
+                }
+                sheetStream.close();
+            }
+        } catch (OpenXML4JException e) {
+            throw new IOException("❌ Unable to read sheets of workbook", e);
+        }
+        throw new RuntimeException("❌ Sheet not found: " + sheetName);
+    }
+
+    /** Releases the workbook file */
+    @Override
+    public void close() {
+        pkg.revert(); // read-only package: revert closes without trying to save
+    }
+
+    /**
+     * Pull-style iterator over the data rows of one sheet.
+     * Missing rows inside the used range come back as all-empty rows, matching ExcelUtils.getData.
+     */
+    public final class SheetRowIterator implements Iterator<String[]>, Closeable {
+
+        private final InputStream in;
+        private final XMLStreamReader xml;
+        private final String[] headers;
+
+        private String[] pending;       // next parsed data row, not yet handed out
+        private int pendingRowNum;      // 1-based sheet row number of 'pending'
+        private int nextRowNum = 2;     // 1-based row number the caller should receive next
+        private boolean finished;
+
+        private SheetRowIterator(InputStream in) throws IOException {
+            this.in = in;
+            try {
+                XMLInputFactory factory = XMLInputFactory.newInstance();
+                factory.setProperty(XMLInputFactory.SUPPORT_DTD, false); // sheet XML never needs DTDs (XXE safety)
+                this.xml = factory.createXMLStreamReader(in);
+
+                String[] headerRow = readNextRow(-1);
+                if (headerRow == null || pendingRowNum != 1) {
+                    throw new RuntimeException("❌ Header row (row 1) is missing");
+                }
+                int width = headerRow.length;
+                this.headers = new String[width];
+                for (int i = 0; i < width; i++) {
+                    headers[i] = headerRow[i] == null ? "" : headerRow[i].trim();
+                }
+            } catch (XMLStreamException e) {
+                closeQuietly();
+                throw new IOException("❌ Unable to parse sheet XML", e);
+            }
+        }
+
+        /** Trimmed header names, in column order */
+        public String[] getHeaders() {
+            return headers.clone();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null && !finished) {
+                try {
+                    pending = readNextRow(headers.length);
+                } catch (XMLStreamException e) {
+                    closeQuietly();
+                    throw new RuntimeException("❌ Unable to parse sheet XML", e);
+                }
+                if (pending == null) {
+                    finished = true;
+                    closeQuietly();
+                }
+            }
+            return pending != null;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            // Fill gaps left by rows that don't exist in the sheet XML
+            if (nextRowNum < pendingRowNum) {
+                nextRowNum++;
+                return blankRow(headers.length);
+            }
+            String[] row = pending;
+            pending = null;
+            nextRowNum++;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            finished = true;
+            pending = null;
+            closeQuietly();
+        }
+
+        /**
+         * Parses the next {@code <row>} element.
+         *
+         * @param width number of columns to keep, or -1 to keep every cell (header row)
+         * @return cell values (never null inside the array), or null when the sheet has no more rows
+         */
+        private String[] readNextRow(int width) throws XMLStreamException {
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    String r = xml.getAttributeValue(null, "r");
+                    pendingRowNum = r != null ? Integer.parseInt(r) : pendingRowNum + 1;
+                    return readCells(width);
+                }
+            }
+            return null;
+        }
+
+        private String[] readCells(int width) throws XMLStreamException {
+            List<String> growable = width < 0 ? new ArrayList<>() : null;
+            String[] values = width < 0 ? null : blankRow(width);
+            int nextColumn = 0;
+
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                    break;
+                }
+                if (event != XMLStreamConstants.START_ELEMENT || !"c".equals(xml.getLocalName())) {
+                    continue;
+                }
+
+                String ref = xml.getAttributeValue(null, "r");
+                int column = ref != null ? columnIndex(ref) : nextColumn;
+                nextColumn = column + 1;
+                String value = readCellValue(xml.getAttributeValue(null, "t"), xml.getAttributeValue(null, "s"));
+
+                if (growable != null) {
+                    while (growable.size() < column) {
+                        growable.add("");
+                    }
+                    growable.add(value);
+                } else if (column < width) {
+                    values[column] = value;
+                }
+            }
+            return growable != null ? growable.toArray(new String[0]) : values;
+        }
+
+        /** Reads one {@code <c>} element (cursor on its start tag) and formats its value */
+        private String readCellValue(String type, String styleIndex) throws XMLStreamException {
+            StringBuilder raw = new StringBuilder();
+            boolean inText = false;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    inText = "v".equals(name) || "t".equals(name); // <v> value or inline-string <t>
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    if (inText) {
+                        raw.append(xml.getText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("c".equals(xml.getLocalName())) {
+                        break;
+                    }
+                    inText = false;
+                }
+            }
+            return format(type, styleIndex, raw.toString());
+        }
+
+        private void closeQuietly() {
+            try {
+                xml.close();
+            } catch (Exception e) {
+                // already closed
+            }
+            try {
+                in.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+    }
+
+    // ===== Cell formatting =====
+
+    private String format(String type, String styleIndex, String raw) {
+        if (raw.isEmpty()) {
+            return "";
+        }
+        if (type == null || "n".equals(type)) {
+            return formatNumber(raw, styleIndex);
+        }
+        switch (type) {
+            case "s":
+                return sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+            case "b":
+                return "1".equals(raw) ? "TRUE" : "FALSE";
+            case "inlineStr":
+            case "str":
+            case "e":
+            default:
+                return raw;
+        }
+    }
+
+    private String formatNumber(String raw, String styleIndex) {
+        double value = Double.parseDouble(raw);
+        if (styleIndex == null || styles == null) {
+            return formatter.formatRawCellContents(value, 0, "General");
+        }
+        XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(styleIndex));
+        int formatIndex = style.getDataFormat();
+        String formatString = style.getDataFormatString();
+        if (formatString == null) {
+            formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+        }
+        return formatter.formatRawCellContents(value, formatIndex, formatString == null ? "General" : formatString);
+    }
+
+    /** "AB12" -> 27 (zero-based column index) */
+    private static int columnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char c = cellRef.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static String[] blankRow(int width) {
+        String[] row = new String[width];
+        Arrays.fill(row, "");
+        return row;
+    }
+}
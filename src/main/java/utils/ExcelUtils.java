@@ -1,18 +1,19 @@
 package utils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
-
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import java.util.NoSuchElementException;
 
 import constants.FrameworkConstants;
+import enums.ConfigProperties;
 
 /**
  * Utility class for reading Excel test data.
- * Uses Apache POI to fetch data into Object[] (for TestNG DataProviders).
+ * Returns data as Object[] (for TestNG DataProviders), or lazily as Iterator<Object[]>.
+ *
+ * <p>Sheets are parsed once per JVM and shared through {@link ExcelDataCache}
+ * (which also keeps compiled snapshots on disk between runs).
  */
 public class ExcelUtils {
 
@@ -21,62 +22,135 @@ public class ExcelUtils {
 
     /**
      * Reads a given sheet's data and returns it as an Object[].
-     * Each element is a Map<ColumnHeader, CellValue>.
+     * Each element is a {@link TestDataRow} (a read-only Map<ColumnHeader, CellValue>).
      */
     public static Object[] getData(String sheetName) throws IOException {
-        try (FileInputStream fis = new FileInputStream(FrameworkConstants.getExcelFilePath());
-             XSSFWorkbook workbook = new XSSFWorkbook(fis)) {
-
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) throw new RuntimeException("❌ Sheet not found: " + sheetName);
-
-            int rowCount = sheet.getLastRowNum(); // total data rows (excluding header)
-            int colCount = sheet.getRow(0).getLastCellNum(); // total columns in header
-
-            DataFormatter formatter = new DataFormatter(); // formats numeric/date into String
-            Object[] data = new Object[rowCount]; // Data array for return
-
-            // Loop through data rows (start from 1, row 0 is header)
-            for (int i = 1; i <= rowCount; i++) {
-                Map<String, String> map = new HashMap<>();
-                Row row = sheet.getRow(i);
-
-                // Loop through every column for this row
-                for (int j = 0; j < colCount; j++) {
-                    String key = sheet.getRow(0).getCell(j).getStringCellValue().trim(); // header as key
-                    String value = "";
-                    if (row != null && row.getCell(j) != null) {
-                        value = formatter.formatCellValue(row.getCell(j)); // safe text value
-                    }
-                    map.put(key, value);
-                }
-                data[i - 1] = map; // store row map into Object[]
-            }
-            return data;
+        SheetData sheet = ExcelDataCache.getSheet(sheetName);
+
+        Object[] data = new Object[sheet.getRowCount()]; // Data array for return
+        for (int i = 0; i < data.length; i++) {
+            data[i] = sheet.getDataRow(i); // row view over the shared sheet copy
         }
+        return data;
     }
 
     /**
      * Reads and merges two sheets row-by-row into a single Object[].
      * Both sheets must have the same number of rows.
+     * The workbook is opened (at most) once for both sheets.
      */
-    @SuppressWarnings("unchecked")
     public static Object[] getMergedData(String sheet1, String sheet2) throws IOException {
-        Object[] data1 = getData(sheet1);
-        Object[] data2 = getData(sheet2);
+        Map<String, SheetData> sheets = ExcelDataCache.getSheets(sheet1, sheet2);
+        SheetData data1 = sheets.get(sheet1);
+        SheetData data2 = sheets.get(sheet2);
 
         // Check row count match
-        if (data1.length != data2.length) {
+        if (data1.getRowCount() != data2.getRowCount()) {
             throw new RuntimeException("❌ Row count mismatch between " + sheet1 + " and " + sheet2);
         }
 
-        Object[] merged = new Object[data1.length];
-        for (int i = 0; i < data1.length; i++) {
-            Map<String, String> combined = new HashMap<>();
-            combined.putAll((Map<String, String>) data1[i]); // add first sheet data
-            combined.putAll((Map<String, String>) data2[i]); // add second sheet data
-            merged[i] = combined;
+        // One header index for the merged layout; duplicate headers resolve to the second sheet
+        HeaderIndex index = HeaderIndex.concat(data1.getHeaderIndex(), data2.getHeaderIndex());
+        int width1 = data1.getColumnCount();
+
+        Object[] merged = new Object[data1.getRowCount()];
+        for (int i = 0; i < merged.length; i++) {
+            String[] combined = new String[index.width()];
+            for (int j = 0; j < width1; j++) {
+                combined[j] = data1.getValue(i, j);          // first sheet data
+            }
+            for (int j = 0; j < data2.getColumnCount(); j++) {
+                combined[width1 + j] = data2.getValue(i, j); // second sheet data
+            }
+            merged[i] = new TestDataRow(index, combined, i + 1);
         }
         return merged;
     }
+
+    /**
+     * Iterates a sheet's rows for an Iterator-based DataProvider (each element is a
+     * one-argument Object[] holding the row as a {@link TestDataRow}).
+     * Decodes rows one at a time from the sheet's memory-mapped snapshot when there is a fresh one,
+     * otherwise uses the shared cached copy; streams straight from the workbook when
+     * {@code excel_cache_enabled=false}.
+     */
+    public static Iterator<Object[]> iterateData(String sheetName) throws IOException {
+        if (!PropertyUtils.getBoolean(ConfigProperties.EXCEL_CACHE_ENABLED, true)) {
+            return streamData(sheetName);
+        }
+        ExcelDataCache.MappedRows mapped = ExcelDataCache.mapSheet(sheetName);
+        if (mapped != null) {
+            HeaderIndex index = new HeaderIndex(mapped.getHeaders()); // shared by every mapped row
+            return new Iterator<Object[]>() {
+                private int rowNumber = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return mapped.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    return new Object[] {new TestDataRow(index, mapped.next(), ++rowNumber)};
+                }
+            };
+        }
+        SheetData sheet = ExcelDataCache.getSheet(sheetName);
+
+        return new Iterator<Object[]>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < sheet.getRowCount();
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Object[] {sheet.getDataRow(next++)}; // no copy: a view over the shared row
+            }
+        };
+    }
+
+    /**
+     * Streams a sheet's data rows lazily (see {@link ExcelStreamReader}).
+     * Each element is a one-argument Object[] holding a {@link TestDataRow},
+     * the shape TestNG expects from an Iterator-based DataProvider.
+     * The workbook is closed automatically once the last row has been read.
+     */
+    public static Iterator<Object[]> streamData(String sheetName) throws IOException {
+        ExcelStreamReader reader = ExcelStreamReader.open(FrameworkConstants.getExcelFilePath());
+        ExcelStreamReader.SheetRowIterator rows;
+        try {
+            rows = reader.iterateSheet(sheetName);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        HeaderIndex index = new HeaderIndex(rows.getHeaders()); // shared by every streamed row
+
+        return new Iterator<Object[]>() {
+            private int rowNumber = 0;
+
+            @Override
+            public boolean hasNext() {
+                boolean more = rows.hasNext();
+                if (!more) {
+                    reader.close(); // release the file as soon as the sheet is exhausted
+                }
+                return more;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Object[] {new TestDataRow(index, rows.next(), ++rowNumber)};
+            }
+        };
+    }
 }
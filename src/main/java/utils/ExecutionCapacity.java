@@ -0,0 +1,74 @@
+package utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+import enums.ConfigProperties;
+
+/**
+ * Works out how many test rows can safely run at the same time on this machine.
+ *
+ * <p>Each parallel worker drives its own browser, so the limit is the smaller of
+ * CPU cores and free physical memory divided by the memory one browser needs.
+ * {@code parallel_threads} (config or -D) overrides the calculation.
+ */
+public final class ExecutionCapacity {
+
+    // Prevent object creation
+    private ExecutionCapacity() {}
+
+    // Calculated once per JVM; the host doesn't change mid-run
+    private static volatile Integer workerCount;
+
+    /** True if data-provider rows should run concurrently */
+    public static boolean isParallelEnabled() {
+        return PropertyUtils.getBoolean(ConfigProperties.PARALLEL_EXECUTION, false);
+    }
+
+    /**
+     * Number of rows to run concurrently: 1 when parallel mode is off,
+     * the configured {@code parallel_threads} if set, otherwise sized to the host.
+     */
+    public static int getWorkerCount() {
+        if (!isParallelEnabled()) {
+            return 1;
+        }
+        if (workerCount == null) {
+            synchronized (ExecutionCapacity.class) {
+                if (workerCount == null) {
+                    workerCount = calculateWorkerCount();
+                }
+            }
+        }
+        return workerCount;
+    }
+
+    private static int calculateWorkerCount() {
+        int configured = PropertyUtils.getInt(ConfigProperties.PARALLEL_THREADS, 0);
+        if (configured > 0) {
+            return configured;
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int byMemory = Integer.MAX_VALUE;
+        long freeBytes = getFreePhysicalMemory();
+        if (freeBytes > 0) {
+            long perBrowser = PropertyUtils.getInt(ConfigProperties.PARALLEL_MEMORY_PER_BROWSER_MB, 600) * 1024L * 1024L;
+            byMemory = (int) Math.max(1, freeBytes / perBrowser);
+        }
+
+        int workers = Math.max(1, Math.min(cores, byMemory));
+        System.out.println("ℹ️ Parallel workers: " + workers + " (cores=" + cores
+                + ", memory allows=" + (byMemory == Integer.MAX_VALUE ? "unknown" : byMemory) + ")");
+        return workers;
+    }
+
+    /** Free physical memory in bytes, or -1 if the JVM can't tell */
+    private static long getFreePhysicalMemory() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreeMemorySize();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,59 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Column name -> slot lookup shared by every row of a sheet.
+ * Built once per sheet (or merged sheet pair), so rows only need to carry a flat String[] of values.
+ * If a header appears twice, the right-most column wins (same as the old per-row HashMap).
+ */
+public final class HeaderIndex {
+
+    private final String[] headers;
+    private final Map<String, Integer> slots;
+
+    HeaderIndex(String[] headers) {
+        this.headers = headers.clone();
+        Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            map.put(headers[i], i);
+        }
+        this.slots = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Builds the index of two sheets placed side by side (left columns first).
+     * Duplicate names resolve to the right sheet's column, like {@code putAll} did.
+     */
+    static HeaderIndex concat(HeaderIndex left, HeaderIndex right) {
+        String[] combined = Arrays.copyOf(left.headers, left.headers.length + right.headers.length);
+        System.arraycopy(right.headers, 0, combined, left.headers.length, right.headers.length);
+        return new HeaderIndex(combined);
+    }
+
+    /** Slot of the given column, or -1 if the sheet has no such header */
+    public int slotOf(Object columnName) {
+        Integer slot = slots.get(columnName);
+        return slot == null ? -1 : slot;
+    }
+
+    /** Number of physical columns (a row's array length) */
+    public int width() {
+        return headers.length;
+    }
+
+    /** Distinct column names, in first-seen column order */
+    public Set<String> names() {
+        return new LinkedHashSet<>(Arrays.asList(headers));
+    }
+
+    /** Number of distinct column names */
+    public int size() {
+        return slots.size();
+    }
+}
@@ -0,0 +1,53 @@
+package utils;
+
+import org.openqa.selenium.By;
+
+/**
+ * Lets browser-side scripts resolve the same {@link By} locators the page objects use,
+ * so a whole check or action can run in one {@code executeScript} call.
+ *
+ * <p>Scripts start with {@link #FUNCTIONS} and receive a locator as two arguments
+ * ({@link #args(By)}): the W3C strategy ("css selector", "xpath", ...) and its value.
+ */
+public final class JsLocator {
+
+    /**
+     * Defines {@code findAll(using, value, root)} and {@code findOne(using, value, root)}
+     * for the W3C locator strategies Selenium sends over the wire. {@code root} is optional.
+     */
+    public static final String FUNCTIONS =
+            "function findAll(using, value, root) {" +
+            "  root = root || document;" +
+            "  if (using === 'css selector') { return Array.prototype.slice.call(root.querySelectorAll(value)); }" +
+            "  if (using === 'tag name') { return Array.prototype.slice.call(root.getElementsByTagName(value)); }" +
+            "  if (using === 'xpath') {" +
+            "    var snap = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    var out = [];" +
+            "    for (var i = 0; i < snap.snapshotLength; i++) { out.push(snap.snapshotItem(i)); }" +
+            "    return out;" +
+            "  }" +
+            "  if (using === 'link text' || using === 'partial link text') {" +
+            "    return Array.prototype.filter.call(root.querySelectorAll('a'), function (a) {" +
+            "      var text = (a.innerText || '').trim();" +
+            "      return using === 'link text' ? text === value : text.indexOf(value) >= 0;" +
+            "    });" +
+            "  }" +
+            "  throw new Error('Unsupported locator strategy: ' + using);" +
+            "}" +
+            "function findOne(using, value, root) { var all = findAll(using, value, root); return all.length ? all[0] : null; }";
+
+    // Prevent object creation
+    private JsLocator() {}
+
+    /**
+     * Converts a locator into the two script arguments {strategy, value}.
+     * By.id / By.name / By.className are translated to CSS by Selenium itself.
+     */
+    public static Object[] args(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("❌ Locator can't be used from a script: " + locator);
+        }
+        By.Remotable.Parameters params = ((By.Remotable) locator).getRemoteParameters();
+        return new Object[] {params.using(), params.value()};
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Properties;
 
 import constants.FrameworkConstants;
+import enums.ConfigProperties;
 
 /**
  * Utility class to read configuration from config.properties.
@@ -30,7 +31,7 @@ public final class PropertyUtils {
             property.load(fis); // Load from file into Properties
             // Move each property to a HashMap for quick repeated access
             property.entrySet().forEach(entry ->
-                CONFIGMAP.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()))
+                CONFIGMAP.put(String.valueOf(entry.getKey()).trim(), String.valueOf(entry.getValue()).trim())
             );
         } catch (IOException e) {
             // Fail fast if config file is missing or unreadable
@@ -48,4 +49,41 @@ public final class PropertyUtils {
         }
         return CONFIGMAP.get(key);
     }
+
+    /**
+     * Gets the value for an optional property key.
+     * A JVM system property with the same key (-Dkey=value) wins over config.properties,
+     * so CI jobs can tune a run without editing the file.
+     */
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            value = CONFIGMAP.get(key);
+        }
+        return (value == null || value.isBlank()) ? defaultValue : value.trim();
+    }
+
+    /** Gets an optional property using its enum key */
+    public static String get(ConfigProperties key, String defaultValue) {
+        return get(key.name().toLowerCase(), defaultValue);
+    }
+
+    /** Gets an optional integer property, falling back to the default if missing or not a number */
+    public static int getInt(ConfigProperties key, int defaultValue) {
+        String value = get(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Property key '" + key.name().toLowerCase() + "' must be a number but was: " + value, e);
+        }
+    }
+
+    /** Gets an optional boolean property ("true"/"false"), falling back to the default if missing */
+    public static boolean getBoolean(ConfigProperties key, boolean defaultValue) {
+        String value = get(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
 }
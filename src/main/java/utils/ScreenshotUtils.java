@@ -1,48 +1,254 @@
 package utils;
 
-import java.io.File;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import org.apache.commons.io.FileUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 
 import constants.FrameworkConstants;
 import driver.DriverManager;
+import enums.ConfigProperties;
 
 /**
  * Utility class to capture and save screenshots using Selenium WebDriver.
+ *
+ * <p>Only the capture happens on the test thread: the PNG bytes are hashed and handed to a small
+ * bounded background writer that converts them to JPEG and writes them with NIO. Files are named
+ * after the content hash, so identical screenshots (same error page in many rows) are stored once.
+ * With {@code report_screenshot_mode=THUMBNAIL} a small JPEG is also written to {@code thumbs/} under the
+ * same name, for the report to show instead of the full image.
+ * Call {@link #awaitPendingWrites(Duration)} before the report is flushed.
  */
 public final class ScreenshotUtils {
 
+    private static final int WRITER_THREADS = 2;
+    private static final int MAX_QUEUED = 16;  // beyond this the test thread writes itself (back-pressure)
+    private static final int THUMBNAIL_WIDTH = 320;
+    private static final float THUMBNAIL_QUALITY = 0.6f;
+
+    private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(WRITER_THREADS, WRITER_THREADS,
+            30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_QUEUED), daemonThreads(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    // Target path -> write in progress; also answers "already saved this run" for duplicates
+    private static final Map<String, Future<?>> WRITES = new ConcurrentHashMap<>();
+
+    static {
+        WRITER.allowCoreThreadTimeOut(true);
+    }
+
     // Prevent instantiation
     private ScreenshotUtils() {}
 
     /**
-     * Captures a screenshot and saves it in the screenshots folder.
-     * Filename: testName_timestamp.png
+     * Captures a screenshot and queues it to be saved in the screenshots folder.
+     * Filename: first 16 hex chars of the image's SHA-256 + .jpg (or .png if compression is off).
      *
-     * @param testName The name of the test (used in the filename)
-     * @return Absolute path to the saved screenshot, or null if failed
+     * @param testName The name of the test (used in log messages)
+     * @return Absolute path the screenshot is (or will shortly be) saved at, or null if capture failed
      */
     public static String captureScreenshot(String testName) {
-        String screenshotDir = FrameworkConstants.getScreenshotPath();
-        String fileName = testName + "_" + System.currentTimeMillis() + ".png";
-        File dest = new File(screenshotDir + fileName);
-
+        byte[] png;
         try {
-            File directory = new File(screenshotDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
+            png = ((TakesScreenshot) DriverManager.getDriver()).getScreenshotAs(OutputType.BYTES);
+        } catch (RuntimeException e) {
+            System.err.println("❌ Failed to capture screenshot for test: " + testName + " - " + e.getMessage());
+            return null;
+        }
+
+        float quality = getJpegQuality();
+        String extension = quality > 0 ? ".jpg" : ".png";
+        Path dest = Paths.get(FrameworkConstants.getScreenshotPath(), sha256(png).substring(0, 16) + extension)
+                .toAbsolutePath();
+        String path = dest.toString();
+
+        if (Files.exists(dest)) {
+            System.out.println("ℹ️ Identical screenshot already saved for test: " + testName + " -> " + path);
+            return path;
+        }
+        // Claim the path first and hand the task to the writer outside the map: with CallerRunsPolicy the
+        // write may run right here, which must not happen inside a ConcurrentHashMap bin lock
+        FutureTask<Void> task = new FutureTask<>(() -> write(png, dest, quality, testName), null);
+        if (WRITES.putIfAbsent(path, task) == null) {
+            WRITER.execute(task);
+        }
+        return path;
+    }
 
-            File src = ((TakesScreenshot) DriverManager.getDriver()).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(src, dest);
-            System.out.println("✅ Screenshot saved: " + dest.getAbsolutePath());
-            return dest.getAbsolutePath();
+    /**
+     * Re-encodes a PNG screenshot as JPEG at {@code screenshot_jpeg_quality}, like saved screenshots.
+     * @return JPEG bytes, or null if compression is off or the image can't be read (keep the PNG then)
+     */
+    public static byte[] toJpeg(byte[] png) {
+        float quality = getJpegQuality();
+        if (quality <= 0) {
+            return null;
+        }
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            return image == null ? null : toJpeg(image, quality);
         } catch (IOException e) {
-            System.err.println("❌ Failed to save screenshot for test: " + testName);
-            e.printStackTrace();
             return null;
         }
     }
+
+    /** True if thumbnails are written next to the screenshots ({@code report_screenshot_mode=THUMBNAIL}) */
+    public static boolean writesThumbnails() {
+        return "THUMBNAIL".equalsIgnoreCase(PropertyUtils.get(ConfigProperties.REPORT_SCREENSHOT_MODE, "FULL"));
+    }
+
+    /** Thumbnail of a screenshot saved by {@link #captureScreenshot(String)}: thumbs/&lt;same hash&gt;.jpg */
+    public static String getThumbnailPath(String screenshotPath) {
+        Path screenshot = Paths.get(screenshotPath);
+        String name = screenshot.getFileName().toString();
+        return screenshot.resolveSibling("thumbs").resolve(name.substring(0, name.lastIndexOf('.')) + ".jpg")
+                .toString();
+    }
+
+    /**
+     * Waits for queued screenshots to be written (call before the report is flushed).
+     * @return true if everything was written in time
+     */
+    public static boolean awaitPendingWrites(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean complete = true;
+        Iterator<Map.Entry<String, Future<?>>> pending = WRITES.entrySet().iterator();
+        while (pending.hasNext()) {
+            Map.Entry<String, Future<?>> entry = pending.next();
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                pending.remove(); // written; Files.exists now answers for duplicates
+            } catch (TimeoutException e) {
+                complete = false;
+            } catch (ExecutionException e) {
+                pending.remove(); // already reported by the writer
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (!complete) {
+            System.err.println("❌ Some screenshots were still being written after " + timeout.toSeconds() + " s");
+        }
+        return complete;
+    }
+
+    // ===== Writer side =====
+
+    private static void write(byte[] png, Path dest, float quality, String testName) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            byte[] data = quality > 0 && image != null ? toJpeg(image, quality) : png;
+            writeAtomically(dest, data);
+            if (image != null && writesThumbnails()) {
+                Path thumbnail = Paths.get(getThumbnailPath(dest.toString()));
+                writeAtomically(thumbnail, toJpeg(scaleToWidth(image), THUMBNAIL_QUALITY));
+            }
+            System.out.println("✅ Screenshot saved: " + dest + " (" + png.length / 1024 + " KB -> "
+                    + data.length / 1024 + " KB)");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Failed to save screenshot for test: " + testName + " - " + e.getMessage());
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeAtomically(Path dest, byte[] data) throws IOException {
+        Files.createDirectories(dest.getParent());
+        // Write next to the target and move, so the report never links a half-written file
+        Path temp = Files.createTempFile(dest.getParent(), ".screenshot", ".tmp");
+        Files.write(temp, data);
+        Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Downscales to {@link #THUMBNAIL_WIDTH}, keeping the aspect ratio */
+    private static BufferedImage scaleToWidth(BufferedImage source) {
+        int width = Math.min(THUMBNAIL_WIDTH, source.getWidth());
+        int height = Math.max(1, source.getHeight() * width / source.getWidth());
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        graphics.dispose();
+        return thumbnail;
+    }
+
+    /** Encodes the image as JPEG (no alpha channel) at the given quality */
+    private static byte[] toJpeg(BufferedImage source, float quality) throws IOException {
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(source, 0, 0, Color.WHITE, null); // transparent areas become white
+        graphics.dispose();
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /** {@code screenshot_jpeg_quality} between 0 and 1; 0 (or invalid) keeps the original PNG */
+    private static float getJpegQuality() {
+        try {
+            float quality = Float.parseFloat(PropertyUtils.get(ConfigProperties.SCREENSHOT_JPEG_QUALITY, "0.75"));
+            return quality > 0 && quality <= 1 ? quality : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e); // guaranteed by the JDK
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-writer-" + count.incrementAndGet());
+            thread.setDaemon(true); // never keeps the JVM alive; awaitPendingWrites drains at suite end
+            return thread;
+        };
+    }
 }
@@ -0,0 +1,75 @@
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, in-memory copy of one Excel sheet: a header row plus data rows.
+ * One instance per sheet is shared by every test class (see {@link ExcelDataCache}),
+ * so callers only ever get copies or read-only views of the underlying arrays.
+ */
+public final class SheetData {
+
+    private final String[] headers;
+    private final String[][] rows;
+
+    // Column name -> slot, shared by every row handed out from this sheet
+    private final HeaderIndex headerIndex;
+
+    SheetData(String[] headers, String[][] rows) {
+        this.headers = headers;
+        this.rows = rows;
+        this.headerIndex = new HeaderIndex(headers);
+    }
+
+    /** Number of data rows (header excluded) */
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    /** Number of columns defined by the header row */
+    public int getColumnCount() {
+        return headers.length;
+    }
+
+    /** Header names in column order */
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+
+    /** Header name of one column */
+    public String getHeader(int column) {
+        return headers[column];
+    }
+
+    /** Cell text at the given data row (0-based, header excluded) and column */
+    public String getValue(int row, int column) {
+        return rows[row][column];
+    }
+
+    /** Shared column name -> slot index of this sheet */
+    public HeaderIndex getHeaderIndex() {
+        return headerIndex;
+    }
+
+    /**
+     * One data row as a read-only map view. No per-row map or header lookups are created:
+     * the row shares this sheet's header index and its value array.
+     */
+    public TestDataRow getDataRow(int row) {
+        return new TestDataRow(headerIndex, rows[row], row + 1);
+    }
+
+    /** Copy of one data row's cell values */
+    public String[] getRow(int row) {
+        return Arrays.copyOf(rows[row], rows[row].length);
+    }
+
+    // Direct access for the cache writer, which only reads
+    String[][] rows() {
+        return rows;
+    }
+
+    String[] headers() {
+        return headers;
+    }
+}
@@ -0,0 +1,128 @@
+package utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * One row of Excel test data: a flat String[] of cell values plus the sheet's shared
+ * {@link HeaderIndex}. Behaves as a read-only Map<String, String>, so tests keep using
+ * {@code data.get("Name")}, and adds typed accessors such as {@link #getInt(String)}.
+ */
+public final class TestDataRow extends AbstractMap<String, String> {
+
+    private final HeaderIndex index;
+    private final String[] values;
+    private final int rowNumber;
+
+    TestDataRow(HeaderIndex index, String[] values, int rowNumber) {
+        this.index = index;
+        this.values = values;
+        this.rowNumber = rowNumber;
+    }
+
+    /** 1-based position of the row among the sheet's data rows (the header row is not counted) */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public String get(Object columnName) {
+        int slot = index.slotOf(columnName);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public boolean containsKey(Object columnName) {
+        return index.slotOf(columnName) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the cell as an int (e.g. {@code getInt("Age")}).
+     *
+     * @throws IllegalArgumentException if the column is missing, empty or not a whole number
+     */
+    public int getInt(String columnName) {
+        String value = require(columnName);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("❌ Column '" + columnName + "' is not a whole number: " + value, e);
+        }
+    }
+
+    /** Returns the cell as an int, or the default if the column is missing or empty */
+    public int getInt(String columnName, int defaultValue) {
+        String value = get(columnName);
+        return (value == null || value.isBlank()) ? defaultValue : getInt(columnName);
+    }
+
+    /**
+     * Returns the cell as a double.
+     *
+     * @throws IllegalArgumentException if the column is missing, empty or not a number
+     */
+    public double getDouble(String columnName) {
+        String value = require(columnName);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("❌ Column '" + columnName + "' is not a number: " + value, e);
+        }
+    }
+
+    /** Returns true for TRUE/Yes/Y/1 (case-insensitive), false for anything else */
+    public boolean getBoolean(String columnName) {
+        String value = get(columnName);
+        if (value == null) {
+            return false;
+        }
+        String v = value.trim();
+        return v.equalsIgnoreCase("true") || v.equalsIgnoreCase("yes") || v.equalsIgnoreCase("y") || v.equals("1");
+    }
+
+    private String require(String columnName) {
+        String value = get(columnName);
+        if (value == null) {
+            throw new IllegalArgumentException("❌ Column not found in test data: " + columnName);
+        }
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("❌ Column '" + columnName + "' is empty");
+        }
+        return value.trim();
+    }
+
+    /** Entries are created on demand; only reporting/toString ever walks them */
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                Iterator<String> names = index.names().iterator();
+                return new Iterator<Entry<String, String>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return names.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        String name = names.next();
+                        return new SimpleImmutableEntry<>(name, get(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return index.size();
+            }
+        };
+    }
+}
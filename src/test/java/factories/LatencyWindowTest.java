@@ -0,0 +1,99 @@
+package factories;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import factories.AdaptiveWaitEngine.LatencyWindow;
+
+/**
+ * Ring buffer, percentiles and persistence format of {@link AdaptiveWaitEngine.LatencyWindow}.
+ */
+public final class LatencyWindowTest {
+
+    @Test
+    public void emptyWindowReturnsTheFallback() {
+        LatencyWindow window = new LatencyWindow();
+
+        Assert.assertEquals(window.size(), 0);
+        Assert.assertEquals(window.percentile(50, -1), -1);
+        Assert.assertEquals(window.serialize(), "");
+    }
+
+    @Test
+    public void percentilesUseNearestRank() {
+        LatencyWindow window = new LatencyWindow();
+        for (long ms : new long[] {900, 100, 500, 300, 700, 200, 1000, 400, 800, 600}) {
+            window.add(ms);
+        }
+
+        Assert.assertEquals(window.percentile(0, -1), 100);
+        Assert.assertEquals(window.percentile(50, -1), 500);
+        Assert.assertEquals(window.percentile(51, -1), 600);
+        Assert.assertEquals(window.percentile(90, -1), 900);
+        Assert.assertEquals(window.percentile(99, -1), 1000);
+        Assert.assertEquals(window.percentile(100, -1), 1000);
+    }
+
+    @Test
+    public void windowKeepsOnlyTheLatestFiftySamples() {
+        LatencyWindow window = new LatencyWindow();
+        for (long ms = 1; ms <= 60; ms++) {
+            window.add(ms * 1000);
+        }
+
+        Assert.assertEquals(window.size(), 50);
+        // 1-10 s dropped out: the window now holds 11-60 s
+        Assert.assertEquals(window.percentile(0, -1), 11_000);
+        Assert.assertEquals(window.percentile(50, -1), 35_000);
+        Assert.assertEquals(window.percentile(100, -1), 60_000);
+        Assert.assertTrue(window.serialize().startsWith("11000,12000,"), window.serialize());
+        Assert.assertTrue(window.serialize().endsWith(",59000,60000"), window.serialize());
+    }
+
+    @Test
+    public void serializeAndParseRoundTripOldestFirst() {
+        LatencyWindow window = new LatencyWindow();
+        window.add(120);
+        window.add(80);
+        window.add(95);
+
+        LatencyWindow copy = LatencyWindow.parse(window.serialize());
+
+        Assert.assertEquals(window.serialize(), "120,80,95");
+        Assert.assertEquals(copy.serialize(), "120,80,95");
+        Assert.assertEquals(copy.size(), 3);
+        Assert.assertEquals(copy.percentile(50, -1), 95);
+    }
+
+    @Test
+    public void parseSkipsBlanksAndKeepsTheNewestWhenTooLong() {
+        Assert.assertEquals(LatencyWindow.parse(" 10, ,20 ,").serialize(), "10,20");
+        Assert.assertEquals(LatencyWindow.parse("").size(), 0);
+
+        StringBuilder csv = new StringBuilder("1");
+        for (int ms = 2; ms <= 55; ms++) {
+            csv.append(',').append(ms);
+        }
+        LatencyWindow window = LatencyWindow.parse(csv.toString());
+        Assert.assertEquals(window.size(), 50);
+        Assert.assertEquals(window.percentile(0, -1), 6);
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void parseRejectsNonNumbers() {
+        // loadProfile() catches this and ignores the whole profile file
+        LatencyWindow.parse("10,fast,30");
+    }
+
+    @Test
+    public void missesAreCountedButNotSampled() {
+        LatencyWindow window = new LatencyWindow();
+        window.add(200);
+        window.miss();
+        window.miss();
+
+        Assert.assertEquals(window.getMisses(), 2);
+        Assert.assertEquals(window.size(), 1);
+        Assert.assertEquals(window.serialize(), "200");
+    }
+}
@@ -0,0 +1,100 @@
+package metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Bucketing and percentiles of {@link LatencyHistogram}.
+ */
+public final class LatencyHistogramTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.percentile(95), 0);
+        Assert.assertEquals(histogram.getMaxMs(), 0);
+    }
+
+    @Test
+    public void recordTruncatesToWholeMillisecondsAndClampsNegatives() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3 * MS - 1);
+        histogram.record(-5 * MS);
+
+        Assert.assertEquals(histogram.getCount(), 2);
+        Assert.assertEquals(histogram.getTotalMs(), 2);
+        Assert.assertEquals(histogram.getMaxMs(), 2);
+        Assert.assertEquals(histogram.percentile(50), 0);
+    }
+
+    @Test
+    public void valuesBelowSixteenMillisecondsAreExact() {
+        LatencyHistogram histogram = histogramOf(3, 5, 7, 9, 15);
+
+        Assert.assertEquals(histogram.percentile(0), 3);
+        Assert.assertEquals(histogram.percentile(40), 5);
+        Assert.assertEquals(histogram.percentile(50), 7);
+        Assert.assertEquals(histogram.percentile(100), 15);
+        Assert.assertEquals(histogram.getTotalMs(), 39);
+    }
+
+    @Test
+    public void percentileIsTheUpperEdgeOfItsBucket() {
+        // 100 ms falls in [96, 103]
+        LatencyHistogram histogram = histogramOf(100, 5_000);
+
+        Assert.assertEquals(histogram.percentile(50), 103);
+        Assert.assertEquals(histogram.percentile(99), 5_000);
+    }
+
+    @Test
+    public void percentileIsCappedAtTheLargestValueSeen() {
+        Assert.assertEquals(histogramOf(100).percentile(50), 100);
+        Assert.assertEquals(histogramOf(100, 101).percentile(100), 101);
+    }
+
+    @Test
+    public void bucketsAreAtMostAnEighthWide() {
+        for (long ms = 16; ms < 10_000_000; ms = ms * 21 / 20 + 1) {
+            long reported = histogramOf(ms, Long.MAX_VALUE / MS).percentile(50);
+            Assert.assertTrue(reported >= ms && reported - ms <= ms / 8, ms + " ms reported as " + reported);
+        }
+    }
+
+    @Test
+    public void percentilesUseNearestRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 10; ms++) {
+            histogram.record(ms * MS);
+        }
+
+        Assert.assertEquals(histogram.percentile(50), 5);
+        Assert.assertEquals(histogram.percentile(51), 6);
+        Assert.assertEquals(histogram.percentile(90), 9);
+        Assert.assertEquals(histogram.percentile(95), 10);
+    }
+
+    @Test
+    public void addMergesCountsTotalsAndMaximum() {
+        LatencyHistogram merged = histogramOf(1, 2);
+        merged.add(histogramOf(3, 400));
+
+        Assert.assertEquals(merged.getCount(), 4);
+        Assert.assertEquals(merged.getTotalMs(), 406);
+        Assert.assertEquals(merged.getMaxMs(), 400);
+        Assert.assertEquals(merged.percentile(75), 3);
+        Assert.assertEquals(merged.percentile(100), 400);
+    }
+
+    private static LatencyHistogram histogramOf(long... millis) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long ms : millis) {
+            histogram.record(ms * MS);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,114 @@
+package pages;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Card parsing of {@link BusListing} and the in-memory queries of {@link BusListingIndex}.
+ */
+public final class BusListingTest {
+
+    private static final String CARD = String.join("\n",
+            "Zingbus Plus",
+            "A/C Sleeper (2+1)",
+            "21:30",
+            "9h 45m",
+            "07:15",
+            "₹150 off with code BUS150",
+            "12 Seats left");
+
+    @Test
+    public void parseReadsTimesDurationSeatsAndType() {
+        BusListing bus = BusListing.parse(3, CARD, null, "4.3 ★", "₹1,249");
+
+        Assert.assertEquals(bus.getPosition(), 3);
+        Assert.assertEquals(bus.getOperator(), "Zingbus Plus");
+        Assert.assertEquals(bus.getBusType(), "A/C Sleeper (2+1)");
+        Assert.assertEquals(bus.getDeparture(), LocalTime.of(21, 30));
+        Assert.assertEquals(bus.getArrival(), LocalTime.of(7, 15));
+        Assert.assertEquals(bus.getDuration(), Duration.ofMinutes(9 * 60 + 45));
+        Assert.assertEquals(bus.getPrice(), 1249);
+        Assert.assertEquals(bus.getSeatsLeft(), 12);
+        Assert.assertEquals(bus.getRating(), 4.3, 1e-9);
+        Assert.assertTrue(bus.isAc());
+        Assert.assertTrue(bus.isSleeper());
+        Assert.assertFalse(bus.isSeater());
+    }
+
+    @Test
+    public void parseNeverTakesTheFareFromTheCardText() {
+        // The promo line carries "150", but without a fare element the price is unknown
+        BusListing bus = BusListing.parse(1, CARD, null, null, null);
+
+        Assert.assertEquals(bus.getPrice(), -1);
+        Assert.assertEquals(bus.getRating(), -1.0);
+    }
+
+    @Test
+    public void parseMarksMissingValuesAsUnknown() {
+        String card = "\n  Laxmi Travels\nNon A/C Seater\n";
+        BusListing bus = BusListing.parse(1, card, " Laxmi Travels (Volvo) ", "New", "");
+
+        Assert.assertEquals(bus.getOperator(), "Laxmi Travels (Volvo)");
+        Assert.assertNull(bus.getDeparture());
+        Assert.assertNull(bus.getArrival());
+        Assert.assertNull(bus.getDuration());
+        Assert.assertEquals(bus.getPrice(), -1);
+        Assert.assertEquals(bus.getSeatsLeft(), -1);
+        Assert.assertEquals(bus.getRating(), -1.0);
+        Assert.assertFalse(bus.isAc());
+        Assert.assertTrue(bus.isSeater());
+        Assert.assertFalse(bus.departsAtOrAfter(LocalTime.MIDNIGHT));
+    }
+
+    @Test
+    public void parseReadsWholeHourDurations() {
+        BusListing bus = BusListing.parse(1, "Bus\n06:00\n11 hrs\n17:00", null, null, "999");
+
+        Assert.assertEquals(bus.getDuration(), Duration.ofHours(11));
+        Assert.assertEquals(bus.getPrice(), 999);
+    }
+
+    @Test
+    public void indexFiltersAndSortsWithoutChangingTheOriginal() {
+        BusListingIndex index = new BusListingIndex(Arrays.asList(
+                bus(1, "A/C Sleeper", "22:00", "1500"),
+                bus(2, "Non A/C Seater", "20:00", "600"),
+                bus(3, "A/C Seater", "23:15", "900"),
+                bus(4, "A/C Sleeper", "19:30", "1100")));
+
+        BusListingIndex lateAc = index.filter(BusListing::isAc).filter(b -> b.departsAtOrAfter(LocalTime.of(21, 0)));
+        Assert.assertEquals(positions(lateAc), Arrays.asList(1, 3));
+        Assert.assertEquals(positions(index.sortedBy(BusListing.BY_DEPARTURE)), Arrays.asList(4, 2, 1, 3));
+        Assert.assertEquals(positions(index), Arrays.asList(1, 2, 3, 4));
+        Assert.assertEquals(index.first().get().getPosition(), 1);
+        Assert.assertTrue(index.filter(b -> false).isEmpty());
+        Assert.assertFalse(index.filter(b -> false).first().isPresent());
+    }
+
+    @Test
+    public void cheapestIgnoresListingsWithoutAFare() {
+        BusListingIndex index = new BusListingIndex(Arrays.asList(
+                bus(1, "A/C Sleeper", "22:00", null),
+                bus(2, "A/C Sleeper", "20:00", "1,800"),
+                bus(3, "A/C Sleeper", "23:15", "1,250")));
+
+        Assert.assertEquals(index.cheapest().get().getPosition(), 3);
+        Assert.assertEquals(positions(index.sortedBy(BusListing.BY_PRICE)), Arrays.asList(3, 2, 1));
+        Assert.assertFalse(index.filter(b -> b.getPosition() == 1).cheapest().isPresent());
+    }
+
+    private static BusListing bus(int position, String type, String departure, String fare) {
+        return BusListing.parse(position, "Operator " + position + "\n" + type + "\n" + departure, null, null, fare);
+    }
+
+    private static List<Integer> positions(BusListingIndex index) {
+        return index.getListings().stream().map(BusListing::getPosition).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,169 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import enums.SeatSelection;
+import enums.SeatType;
+
+/**
+ * Layout and selection logic of {@link SeatMap}, fed with hand-made snapshots (no browser).
+ *
+ * <p>The default layout is one seater deck in a 2+1 arrangement, 36 px seats:
+ * <pre>
+ *   x = 100  140      220
+ *   [ 0 ]  [ 1 ]     [ 2 ]    y = 100
+ *   [ 3 ]  [ 4 ]     [ 5 ]    y = 150
+ *   [ 6 ]  [ 7 ]     [ 8 ]    y = 200
+ * </pre>
+ */
+public final class SeatMapTest {
+
+    private static final int[] XS = {100, 140, 220};
+    private static final int[] YS = {100, 150, 200};
+
+    /** Collects seats in page order into a SNAPSHOT_JS-shaped map */
+    private static final class Snapshot {
+        private final Map<String, List<Object>> columns = new HashMap<>();
+
+        Snapshot seat(int deck, int x, int y, boolean sleeper, boolean available, int price) {
+            add("deck", deck);
+            add("x", x);
+            add("y", y);
+            add("w", 36);
+            add("h", 36);
+            add("sleeper", sleeper);
+            add("available", available);
+            add("price", price);
+            add("elements", null);
+            return this;
+        }
+
+        private void add(String key, Object value) {
+            columns.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+
+        SeatMap build() {
+            return SeatMap.fromSnapshot(new HashMap<>(columns));
+        }
+    }
+
+    /** 2+1 seater deck; seats listed in 'booked' are unavailable, fares come from 'prices' (by seat) */
+    private static SeatMap seaterDeck(int[] prices, int... booked) {
+        Snapshot snapshot = new Snapshot();
+        int seat = 0;
+        for (int y : YS) {
+            for (int x : XS) {
+                boolean available = true;
+                for (int b : booked) {
+                    available &= b != seat;
+                }
+                snapshot.seat(0, x, y, false, available, prices == null ? -1 : prices[seat]);
+                seat++;
+            }
+        }
+        return snapshot.build();
+    }
+
+    @Test
+    public void gridIndexGroupsCentresIntoRowsAndColumns() {
+        // A few px of jitter (101 vs 99) is still the same row; page order is not grid order
+        SeatMap map = new Snapshot()
+                .seat(0, 140, 101, false, true, -1)
+                .seat(0, 100, 99, false, true, -1)
+                .seat(0, 220, 150, false, true, -1)
+                .seat(0, 100, 152, false, true, -1)
+                .build();
+
+        Assert.assertEquals(map.getRow(0), 0);
+        Assert.assertEquals(map.getRow(1), 0);
+        Assert.assertEquals(map.getRow(2), 1);
+        Assert.assertEquals(map.getRow(3), 1);
+        Assert.assertEquals(map.getColumn(1), 0);
+        Assert.assertEquals(map.getColumn(0), 1);
+        Assert.assertEquals(map.getColumn(3), 0);
+        Assert.assertEquals(map.getColumn(2), 2);
+    }
+
+    @Test
+    public void gridIndexStartsAgainOnEachDeck() {
+        SeatMap map = new Snapshot()
+                .seat(0, 100, 100, true, true, -1)
+                .seat(0, 200, 100, true, true, -1)
+                .seat(1, 600, 300, true, true, -1)
+                .seat(1, 700, 300, true, true, -1)
+                .build();
+
+        Assert.assertEquals(map.getDeck(2), 1);
+        Assert.assertEquals(map.getRow(2), 0);
+        Assert.assertEquals(map.getColumn(2), 0);
+        Assert.assertEquals(map.getColumn(3), 1);
+        Assert.assertEquals(map.find(1, 0, 1), 3);
+        Assert.assertEquals(map.find(1, 1, 0), -1);
+    }
+
+    @Test
+    public void firstAvailableSkipsBookedSeatsAndOtherTypes() {
+        SeatMap map = new Snapshot()
+                .seat(0, 100, 100, true, true, -1)
+                .seat(0, 140, 100, false, false, -1)
+                .seat(0, 180, 100, false, true, -1)
+                .seat(0, 220, 100, false, true, -1)
+                .build();
+
+        Assert.assertEquals(map.pick(SeatType.SEATER, 2, SeatSelection.FIRST_AVAILABLE), new int[] {2, 3});
+        Assert.assertEquals(map.pick(SeatType.SLEEPER, 2, SeatSelection.FIRST_AVAILABLE), new int[] {0});
+        Assert.assertEquals(map.getAvailableCount(SeatType.SEATER), 2);
+    }
+
+    @Test
+    public void windowOnlyPicksTheOuterColumns() {
+        SeatMap map = seaterDeck(null, 0);
+
+        Assert.assertTrue(map.isWindow(2));
+        Assert.assertFalse(map.isWindow(1));
+        // Seat 0 is booked: window seats in page order are 2, 3, 5
+        Assert.assertEquals(map.pick(SeatType.SEATER, 3, SeatSelection.WINDOW), new int[] {2, 3, 5});
+    }
+
+    @Test
+    public void adjacentNeedsNeighbouringColumnsWithoutAnAisle() {
+        // Row 0 has only 1 and 2 free, but the aisle lies between them; row 1 is free
+        SeatMap map = seaterDeck(null, 0);
+
+        Assert.assertEquals(map.pick(SeatType.SEATER, 2, SeatSelection.ADJACENT), new int[] {3, 4});
+    }
+
+    @Test
+    public void adjacentFallsBackToTheLongestRun() {
+        // No row has three side-by-side seats (the aisle splits every row), so the first pair is returned
+        SeatMap map = seaterDeck(null);
+
+        Assert.assertEquals(map.pick(SeatType.SEATER, 3, SeatSelection.ADJACENT), new int[] {0, 1});
+    }
+
+    @Test
+    public void cheapestOrdersByFareWithUnknownFaresLast() {
+        int[] prices = {900, 700, -1, 700, 1200, 650, -1, 800, 1000};
+        SeatMap map = seaterDeck(prices, 5);
+
+        // 650 is booked; equal fares keep page order; -1 only after every known fare
+        Assert.assertEquals(map.pick(SeatType.SEATER, 4, SeatSelection.CHEAPEST), new int[] {1, 3, 7, 0});
+        Assert.assertEquals(map.pick(SeatType.SEATER, 8, SeatSelection.CHEAPEST), new int[] {1, 3, 7, 0, 8, 4, 2, 6});
+    }
+
+    @Test
+    public void pickReturnsFewerSeatsWhenTheMapCannotSatisfyTheRequest() {
+        SeatMap map = seaterDeck(null, 0, 1, 2, 3, 4, 5, 6, 7);
+
+        for (SeatSelection selection : SeatSelection.values()) {
+            Assert.assertEquals(map.pick(SeatType.SEATER, 2, selection), new int[] {8}, selection.name());
+            Assert.assertEquals(map.pick(SeatType.SLEEPER, 2, selection).length, 0, selection.name());
+        }
+    }
+}
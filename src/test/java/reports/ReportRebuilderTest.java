@@ -0,0 +1,142 @@
+package reports;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Journal round trip: lines in the {@link ReportJournal} format are read back and replayed by
+ * {@link ReportRebuilder} into a full report and into per-class shards.
+ */
+public final class ReportRebuilderTest {
+
+    private Path dir;
+    private Path journal;
+    private final List<String> lines = new ArrayList<>();
+
+    @BeforeMethod
+    public void createJournal() throws IOException {
+        dir = Files.createTempDirectory("report-journal-");
+        journal = dir.resolve("report-journal.jsonl");
+        lines.clear();
+
+        event("info", 0, "key", "Browser", "value", "chrome");
+        event("create", 1, "name", "searchBuses - Smoke", "group", "BusBookingTest");
+        event("create", 2, "name", "login - Valid user", "group", "LoginTest");
+        event("log", 1, "status", "INFO", "msg", "Searching Pune to Goa");
+        event("log", 2, "status", "PASS", "msg", "Logged in");
+        event("log", 0, "status", "WARNING", "msg", "Driver pool warmed late");
+        event("log", 1, "status", "FAIL", "msg", "No buses <found>");
+        event("create", 3, "name", "searchBuses - Sleeper", "group", "BusBookingTest");
+        event("log", 3, "status", "SKIP", "msg", "Sheet row disabled");
+        event("end", 1);
+        event("end", 2);
+        event("end", 3);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteJournal() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void readReturnsEventsInOrderAndSkipsBrokenLines() throws IOException {
+        lines.add(3, "");
+        lines.add("{\"t\":1718000000000,\"e\":\"log\",\"id\":1,\"msg\":\"cut off by a cra");
+        write();
+
+        try (Stream<Map<String, Object>> events = ReportJournal.read(journal)) {
+            List<Map<String, Object>> read = events.collect(Collectors.toList());
+            Assert.assertEquals(read.size(), 12);
+            Assert.assertEquals(read.get(1).get("e"), "create");
+            Assert.assertEquals(((Number) read.get(1).get("id")).longValue(), 1L);
+            Assert.assertEquals(read.get(1).get("group"), "BusBookingTest");
+            Assert.assertNull(read.get(0).get("id"));
+            Assert.assertEquals(read.get(6).get("msg"), "No buses <found>");
+        }
+    }
+
+    @Test
+    public void encodeKeepsEachEventOnOneLine() throws IOException {
+        event("log", 1, "status", "FAIL", "msg", "Timed out\n  at BusResultsPage.readListings");
+        write();
+
+        Assert.assertEquals(Files.readAllLines(journal).size(), 13);
+        try (Stream<Map<String, Object>> events = ReportJournal.read(journal)) {
+            Assert.assertEquals(events.reduce((first, second) -> second).get().get("msg"),
+                    "Timed out\n  at BusResultsPage.readListings");
+        }
+    }
+
+    @Test
+    public void rebuildCountsTestsByStatus() throws IOException {
+        write();
+        Path html = dir.resolve("report.html");
+
+        int[] counts = ReportRebuilder.rebuild(journal, html.toString());
+
+        Assert.assertEquals(counts, new int[] {3, 1, 1, 1});
+        String report = read(html);
+        Assert.assertTrue(report.contains("searchBuses - Smoke"));
+        Assert.assertTrue(report.contains("Driver pool warmed late"), "suite-level log kept");
+        Assert.assertTrue(report.contains("chrome"), "system info kept");
+    }
+
+    @Test
+    public void rebuildShardedWritesOneReportPerGroupAndAnIndex() throws IOException {
+        write();
+        Path index = dir.resolve("index.html");
+
+        ReportRebuilder.rebuildSharded(journal, index.toString());
+
+        String bus = read(dir.resolve("report-BusBookingTest.html"));
+        Assert.assertTrue(bus.contains("searchBuses - Sleeper"));
+        Assert.assertFalse(bus.contains("login - Valid user"));
+        Assert.assertTrue(read(dir.resolve("report-LoginTest.html")).contains("login - Valid user"));
+        Assert.assertTrue(read(dir.resolve("report-Suite_log.html")).contains("Driver pool warmed late"));
+
+        String page = read(index);
+        Assert.assertTrue(page.contains("<a href='report-BusBookingTest.html'>BusBookingTest</a>"
+                + "</td><td>2</td><td>0</td><td class='fail'>1</td><td>1</td>"), page);
+        Assert.assertTrue(page.contains("<a href='report-LoginTest.html'>LoginTest</a>"
+                + "</td><td>1</td><td>1</td><td class=''>0</td><td>0</td>"), page);
+    }
+
+    /** Adds one journal line, shaped like ReportJournal.append writes it */
+    private void event(String type, long testId, String... fields) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("t", 1_718_000_000_000L + lines.size() * 1_000L);
+        line.put("e", type);
+        if (testId > 0) {
+            line.put("id", testId);
+        }
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            line.put(fields[i], fields[i + 1]);
+        }
+        lines.add(ReportJournal.encode(line));
+    }
+
+    private void write() throws IOException {
+        Files.write(journal, lines, StandardCharsets.UTF_8);
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,9 @@
 package tests;
 
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Listeners;
 
 import driver.DriverManager;
@@ -14,14 +16,26 @@ public class BaseTest {
 
     protected BaseTest() {}
 
+    @BeforeSuite(alwaysRun = true)
+    public void warmUpBrowsers() {
+        try {
+            DriverManager.warmUpPool(getBrowser());
+        } catch (Exception e) {
+            // Not fatal: tests will simply start their own browsers on a pool miss
+            System.err.println("❌ Failed to warm up the driver pool.");
+            e.printStackTrace();
+        }
+    }
+
     @BeforeMethod
     public void setUp() {
         try {
-            BrowserType browser = BrowserType.valueOf(PropertyUtils.get("browser").toUpperCase());
-            DriverManager.initDriver(browser);
+            long start = System.nanoTime();
+            DriverManager.initDriver(getBrowser());
             String appUrl = PropertyUtils.get("url");
             DriverManager.getDriver().get(appUrl);
-            System.out.println("✅ Browser launched and navigated to: " + appUrl);
+            System.out.println("✅ Browser ready in " + (System.nanoTime() - start) / 1_000_000
+                    + " ms and navigated to: " + appUrl);
         } catch (Exception e) {
             System.err.println("❌ Failed to initialize browser or navigate to URL.");
             e.printStackTrace();
@@ -33,10 +47,24 @@ public class BaseTest {
     public void tearDown() {
         try {
             DriverManager.quitDriver();
-            System.out.println("✅ Browser closed successfully.");
+            System.out.println(DriverManager.isPoolEnabled()
+                    ? "✅ Browser returned to the pool."
+                    : "✅ Browser closed successfully.");
         } catch (Exception e) {
             System.err.println("❌ Error while closing the browser.");
             e.printStackTrace();
         }
     }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutDownBrowsers() {
+        String poolStats = DriverManager.shutdownPool();
+        if (poolStats != null) {
+            System.out.println("ℹ️ " + poolStats);
+        }
+    }
+
+    private static BrowserType getBrowser() {
+        return BrowserType.valueOf(PropertyUtils.get("browser").toUpperCase());
+    }
 }
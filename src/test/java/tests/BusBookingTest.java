@@ -35,8 +35,9 @@ public final class BusBookingTest extends BaseTest {
         String expectedRoute = data.get("fromCity") + " to " + data.get("toCity") + " Bus";
         String busesCount = resultsPage.getBusesCountText();
         ExtentLogger.info("Buses Count: "+busesCount);
-        Assert.assertEquals(resultsPage.getBusRouteTitle(), expectedRoute, "Route title mismatch");
-        ExtentLogger.info("Verified search results route title: "+resultsPage.getBusRouteTitle());
+        String routeTitle = resultsPage.getBusRouteTitle();
+        Assert.assertEquals(routeTitle, expectedRoute, "Route title mismatch");
+        ExtentLogger.info("Verified search results route title: "+routeTitle);
 
         resultsPage
             .clickSelectSeatsButtonByIndex(1)
@@ -54,11 +55,8 @@ public final class BusBookingTest extends BaseTest {
         ExtentLogger.info("On Complete Booking Page Header is Visible");
 
         completeBooking
-            .fillTravelDetailsNameField(data.get("Name"))
-            .fillTravelDetailsAgeField(data.get("Age"))
-            .selectGender(data.get("Gender"))
-            .fillEmailId(data.get("Email"))
-            .fillMobileNumber(data.get("MobileNumber"))
+            .fillPassengerDetails(data.get("Name"), data.get("Age"), data.get("Gender"),
+                    data.get("Email"), data.get("MobileNumber"))
             .checkStateConfirmationCheckbox()
             .clickContinueBtn();
 
@@ -66,7 +64,7 @@ public final class BusBookingTest extends BaseTest {
         ExtentLogger.pass("Passenger details filled and continue pressed");
 
         // ===== Step 4: Payment page =====
-        PaymentPage payment = new PaymentPage();
+        PaymentPage payment = new PaymentPage().capture(); // one call for all the checks below
         Assert.assertEquals(payment.getScanToPayHeaderText(), "Scan to Pay");
         Assert.assertEquals(payment.getPaymentOptionsHeaderText(), "Payment Options");
         Assert.assertEquals(payment.getTotalDueLabelText(), "Total Due");
@@ -0,0 +1,141 @@
+package utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * When {@link ExcelDataCache} trusts, refreshes or recompiles an on-disk snapshot.
+ *
+ * <p>Each test compiles a one-cell workbook ("Alpha"), then rewrites that value inside the snapshot
+ * to "Omega" (same length). Reading "Omega" back proves the snapshot was used; "Alpha" or a new
+ * value proves the workbook was compiled again.
+ */
+public final class ExcelDataCacheTest {
+
+    private static final String SHEET = "Data";
+    private static final String CACHE_KEY = "excel_cache_enabled";
+
+    private String previousCacheSetting;
+    private Path workbook;
+    private Path snapshot;
+
+    @BeforeClass
+    public void enableDiskCache() {
+        previousCacheSetting = System.getProperty(CACHE_KEY);
+        System.setProperty(CACHE_KEY, "true");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreDiskCache() {
+        if (previousCacheSetting == null) {
+            System.clearProperty(CACHE_KEY);
+        } else {
+            System.setProperty(CACHE_KEY, previousCacheSetting);
+        }
+    }
+
+    @BeforeMethod
+    public void compileWorkbook() throws IOException {
+        workbook = Files.createTempFile("excel-cache-", ".xlsx").toAbsolutePath();
+        writeWorkbook("Alpha");
+        snapshot = ExcelDataCache.snapshotPath(workbook, SHEET);
+
+        Assert.assertEquals(value(), "Alpha");
+        Assert.assertTrue(Files.exists(snapshot), "snapshot written on first load");
+        tamperSnapshot("Alpha", "Omega");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(workbook);
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Test
+    public void unchangedWorkbookIsReadFromTheSnapshot() throws IOException {
+        FileTime written = Files.getLastModifiedTime(snapshot);
+
+        Assert.assertEquals(value(), "Omega");
+        Assert.assertEquals(Files.getLastModifiedTime(snapshot), written, "snapshot not rewritten");
+    }
+
+    @Test
+    public void newMtimeWithTheSameHashKeepsTheSnapshotAndRefreshesItsFingerprint() throws IOException {
+        long touched = Files.getLastModifiedTime(workbook).toMillis() + 60_000;
+        Files.setLastModifiedTime(workbook, FileTime.fromMillis(touched));
+
+        Assert.assertEquals(value(), "Omega");
+        Assert.assertEquals(snapshotMtime(), touched);
+        Assert.assertEquals(value(), "Omega");
+    }
+
+    @Test
+    public void changedHashRecompilesTheWorkbook() throws IOException {
+        long modified = Files.getLastModifiedTime(workbook).toMillis();
+        writeWorkbook("Bravo");
+        Files.setLastModifiedTime(workbook, FileTime.fromMillis(modified + 60_000));
+
+        Assert.assertEquals(value(), "Bravo");
+        Assert.assertEquals(snapshotMtime(), modified + 60_000);
+    }
+
+    @Test
+    public void snapshotOfADifferentFormatIsIgnored() throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[7] = 99; // VERSION
+        Files.write(snapshot, bytes);
+
+        Assert.assertEquals(value(), "Alpha");
+    }
+
+    private String value() throws IOException {
+        SheetData sheet = ExcelDataCache.load(workbook, List.of(SHEET)).get(SHEET);
+        Assert.assertEquals(sheet.getHeaders(), new String[] {"Name"});
+        Assert.assertEquals(sheet.getRowCount(), 1);
+        return sheet.getValue(0, 0);
+    }
+
+    private void writeWorkbook(String name) throws IOException {
+        try (XSSFWorkbook book = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(workbook)) {
+            Sheet sheet = book.createSheet(SHEET);
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            sheet.createRow(1).createCell(0).setCellValue(name);
+            book.write(out);
+        }
+    }
+
+    /** Rewrites a string in place, leaving the header (size, mtime, hash) as it was */
+    private void tamperSnapshot(String from, String to) throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshot);
+        byte[] target = from.getBytes(StandardCharsets.UTF_8);
+        byte[] replacement = to.getBytes(StandardCharsets.UTF_8);
+        for (int i = bytes.length - target.length; i >= 0; i--) {
+            if (ByteBuffer.wrap(bytes, i, target.length).equals(ByteBuffer.wrap(target))) {
+                System.arraycopy(replacement, 0, bytes, i, replacement.length);
+                Files.write(snapshot, bytes);
+                return;
+            }
+        }
+        Assert.fail(from + " not found in " + snapshot);
+    }
+
+    /** Workbook mtime recorded in the snapshot header (after MAGIC, VERSION and size) */
+    private long snapshotMtime() throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(snapshot)).getLong(16);
+    }
+}
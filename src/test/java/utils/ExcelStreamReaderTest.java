@@ -0,0 +1,196 @@
+package utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link ExcelStreamReader} against workbooks written by POI: XSSFWorkbook stores text as shared strings,
+ * SXSSFWorkbook as inline strings. Values must match what {@link DataFormatter} shows for the same cells.
+ */
+public final class ExcelStreamReaderTest {
+
+    private final List<Path> workbooks = new ArrayList<>();
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteWorkbooks() throws IOException {
+        for (Path workbook : workbooks) {
+            Files.deleteIfExists(workbook);
+        }
+        workbooks.clear();
+    }
+
+    @Test
+    public void sharedStringsAreResolved() throws IOException {
+        Path path = write(new XSSFWorkbook());
+
+        assertRows(readAll(path, "Data"), expectedRows(path));
+    }
+
+    @Test
+    public void inlineStringsAreReadAsIs() throws IOException {
+        Path path = write(new SXSSFWorkbook());
+
+        assertRows(readAll(path, "Data"), expectedRows(path));
+    }
+
+    @Test
+    public void missingRowsAndCellsComeBackEmpty() throws IOException {
+        Path path = write(new XSSFWorkbook());
+        List<String[]> rows = readAll(path, "Data");
+
+        Assert.assertEquals(rows.size(), 4);
+        // Row 3 doesn't exist in the sheet XML
+        Assert.assertEquals(rows.get(1), new String[] {"", "", "", "", ""});
+        // Row 4 skips column B, and its cell past the last header is dropped
+        Assert.assertEquals(rows.get(2), new String[] {"Return", "", "", "", "FALSE"});
+        // Row 5 only has column C
+        Assert.assertEquals(rows.get(3), new String[] {"", "", "2", "", ""});
+    }
+
+    @Test
+    public void numbersAndDatesUseTheCellFormat() throws IOException {
+        Path path = write(new XSSFWorkbook());
+        String[] first = readAll(path, "Data").get(0);
+
+        Assert.assertEquals(first[0], "Smoke");
+        Assert.assertEquals(first[1], "18-10-2026");
+        Assert.assertEquals(first[2], "3");
+        Assert.assertEquals(first[3], "1249.5");
+        Assert.assertEquals(first[4], "TRUE");
+    }
+
+    @Test
+    public void headersAreTrimmedAndGapsKept() throws IOException {
+        Path path = write(new XSSFWorkbook());
+        try (ExcelStreamReader reader = ExcelStreamReader.open(path.toString());
+             ExcelStreamReader.SheetRowIterator rows = reader.iterateSheet("Data")) {
+            Assert.assertEquals(rows.getHeaders(), new String[] {"Scenario", "Date", "Seats", "", "Ac"});
+        }
+    }
+
+    @Test
+    public void builtInDateFormatMatchesDataFormatter() throws IOException {
+        Path path = Files.createTempFile("stream-reader-", ".xlsx");
+        workbooks.add(path);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet("Dates");
+            sheet.createRow(0).createCell(0).setCellValue("Date");
+            CellStyle builtIn = workbook.createCellStyle();
+            builtIn.setDataFormat((short) 14); // m/d/yy
+            Cell cell = sheet.createRow(1).createCell(0);
+            cell.setCellValue(LocalDate.of(2026, 1, 5));
+            cell.setCellStyle(builtIn);
+            workbook.write(out);
+        }
+
+        Assert.assertEquals(readAll(path, "Dates").get(0), expectedRows(path, "Dates").get(0));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = ".*Sheet not found: Nope")
+    public void unknownSheetFails() throws IOException {
+        Path path = write(new XSSFWorkbook());
+        try (ExcelStreamReader reader = ExcelStreamReader.open(path.toString())) {
+            reader.iterateSheet("Nope");
+        }
+    }
+
+    /**
+     * Header "Scenario | Date | Seats | (blank) | Ac", then:
+     * row 2 full, row 3 missing, row 4 without column B plus an extra cell in F, row 5 with only column C.
+     */
+    private Path write(Workbook workbook) throws IOException {
+        Path path = Files.createTempFile("stream-reader-", ".xlsx");
+        workbooks.add(path);
+        try (workbook; OutputStream out = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet("Data");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue(" Scenario ");
+            header.createCell(1).setCellValue("Date");
+            header.createCell(2).setCellValue("Seats");
+            header.createCell(4).setCellValue("Ac");
+
+            CellStyle date = workbook.createCellStyle();
+            date.setDataFormat(workbook.createDataFormat().getFormat("dd-MM-yyyy"));
+
+            Row first = sheet.createRow(1);
+            first.createCell(0).setCellValue("Smoke");
+            Cell travelDate = first.createCell(1);
+            travelDate.setCellValue(LocalDate.of(2026, 10, 18));
+            travelDate.setCellStyle(date);
+            first.createCell(2).setCellValue(3);
+            first.createCell(3).setCellValue(1249.5);
+            first.createCell(4).setCellValue(true);
+
+            Row gap = sheet.createRow(3);
+            gap.createCell(0).setCellValue("Return");
+            gap.createCell(4).setCellValue(false);
+            gap.createCell(5).setCellValue("beyond the header");
+
+            sheet.createRow(4).createCell(2).setCellValue(2);
+
+            workbook.write(out);
+            if (workbook instanceof SXSSFWorkbook) {
+                ((SXSSFWorkbook) workbook).dispose();
+            }
+        }
+        return path;
+    }
+
+    private static void assertRows(List<String[]> actual, List<String[]> expected) {
+        Assert.assertEquals(actual.size(), expected.size(), "rows");
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(actual.get(i), expected.get(i), "data row " + (i + 1));
+        }
+    }
+
+    private static List<String[]> readAll(Path path, String sheet) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (ExcelStreamReader reader = ExcelStreamReader.open(path.toString());
+             ExcelStreamReader.SheetRowIterator iterator = reader.iterateSheet(sheet)) {
+            iterator.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private static List<String[]> expectedRows(Path path) throws IOException {
+        return expectedRows(path, "Data");
+    }
+
+    /** What DataFormatter shows for each data row, cut to the header width and with blanks for gaps */
+    private static List<String[]> expectedRows(Path path, String sheetName) throws IOException {
+        DataFormatter formatter = new DataFormatter();
+        List<String[]> rows = new ArrayList<>();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(path.toFile())) {
+            Sheet sheet = workbook.getSheet(sheetName);
+            int width = sheet.getRow(0).getLastCellNum();
+            for (int r = 1; r <= sheet.getLastRowNum(); r++) {
+                Row row = sheet.getRow(r);
+                String[] values = new String[width];
+                for (int c = 0; c < width; c++) {
+                    values[c] = row == null ? "" : formatter.formatCellValue(row.getCell(c));
+                }
+                rows.add(values);
+            }
+        } catch (org.apache.poi.openxml4j.exceptions.InvalidFormatException e) {
+            throw new IOException(e);
+        }
+        return rows;
+    }
+}
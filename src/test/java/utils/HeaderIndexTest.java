@@ -0,0 +1,73 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Slot lookup of {@link HeaderIndex}, including duplicate headers and merged sheet pairs.
+ */
+public final class HeaderIndexTest {
+
+    @Test
+    public void slotOfFindsEachColumnAndMissesUnknownNames() {
+        HeaderIndex index = new HeaderIndex(new String[] {"Scenario", "From", "To"});
+
+        Assert.assertEquals(index.slotOf("Scenario"), 0);
+        Assert.assertEquals(index.slotOf("To"), 2);
+        Assert.assertEquals(index.slotOf("Date"), -1);
+        Assert.assertEquals(index.slotOf(42), -1);
+        Assert.assertEquals(index.width(), 3);
+        Assert.assertEquals(index.size(), 3);
+    }
+
+    @Test
+    public void duplicateHeaderResolvesToTheRightMostColumn() {
+        HeaderIndex index = new HeaderIndex(new String[] {"Name", "City", "Name"});
+
+        Assert.assertEquals(index.slotOf("Name"), 2);
+        Assert.assertEquals(index.width(), 3);
+        Assert.assertEquals(index.size(), 2);
+        Assert.assertEquals(List.copyOf(index.names()), Arrays.asList("Name", "City"));
+    }
+
+    @Test
+    public void concatPutsLeftColumnsFirstAndLetsTheRightSheetWin() {
+        HeaderIndex left = new HeaderIndex(new String[] {"Scenario", "From", "Seats"});
+        HeaderIndex right = new HeaderIndex(new String[] {"Seats", "Name", "Age"});
+
+        HeaderIndex merged = HeaderIndex.concat(left, right);
+
+        Assert.assertEquals(merged.width(), 6);
+        Assert.assertEquals(merged.size(), 5);
+        Assert.assertEquals(merged.slotOf("From"), 1);
+        Assert.assertEquals(merged.slotOf("Seats"), 3);
+        Assert.assertEquals(merged.slotOf("Age"), 5);
+        Assert.assertEquals(List.copyOf(merged.names()), Arrays.asList("Scenario", "From", "Seats", "Name", "Age"));
+    }
+
+    @Test
+    public void rowOverMergedIndexReadsTheWinningSlot() {
+        HeaderIndex merged = HeaderIndex.concat(
+                new HeaderIndex(new String[] {"Scenario", "Seats"}),
+                new HeaderIndex(new String[] {"Seats", "Name"}));
+        TestDataRow row = new TestDataRow(merged, new String[] {"Smoke", "1", "2", "Asha"}, 1);
+
+        Assert.assertEquals(row.get("Seats"), "2");
+        Assert.assertEquals(row.getInt("Seats"), 2);
+        Assert.assertEquals(row.size(), 3);
+        Assert.assertNull(row.get("Age"));
+        Assert.assertFalse(row.containsKey("Age"));
+    }
+
+    @Test
+    public void constructorCopiesTheHeaderArray() {
+        String[] headers = {"From", "To"};
+        HeaderIndex index = new HeaderIndex(headers);
+        headers[0] = "Changed";
+
+        Assert.assertEquals(List.copyOf(index.names()), Arrays.asList("From", "To"));
+    }
+}